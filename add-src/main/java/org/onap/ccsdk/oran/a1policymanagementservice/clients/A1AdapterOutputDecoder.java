@@ -0,0 +1,128 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONException;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
+
+/**
+ * Decodes the output of an A1 controller RPC, {"output":{"http-status":..,"body":..}}, in one pass. Only the
+ * 'http-status' and 'body' are extracted, everything else is skipped without being parsed into objects.
+ *
+ * The output of a batch RPC, {"output":{"responses":[{"http-status":..,"body":..}]}}, is decoded in the same way.
+ */
+final class A1AdapterOutputDecoder {
+    private static final String OUTPUT = "output";
+    private static final String BODY = "body";
+    private static final String HTTP_STATUS = "http-status";
+    private static final String RESPONSES = "responses";
+
+    private A1AdapterOutputDecoder() {}
+
+    /**
+     * Decodes the response from an A1 controller RPC.
+     *
+     * @param response the response body from the controller
+     * @return the output of the RPC
+     * @throws IOException if the response is not well formed JSON
+     * @throws JSONException if the response contains no output
+     */
+    static AdapterOutput decode(String response) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(response))) {
+            moveTo(reader, OUTPUT);
+            return decodeOutput(reader);
+        }
+    }
+
+    /**
+     * Decodes the response from an A1 controller batch RPC.
+     *
+     * @param response the response body from the controller
+     * @return the outputs of the requests in the batch, in the order of the requests
+     * @throws IOException if the response is not well formed JSON
+     * @throws JSONException if the response contains no responses
+     */
+    static List<AdapterOutput> decodeBatch(String response) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(response))) {
+            moveTo(reader, OUTPUT);
+            moveTo(reader, RESPONSES);
+            List<AdapterOutput> outputs = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                outputs.add(decodeOutput(reader));
+            }
+            reader.endArray();
+            return outputs;
+        }
+    }
+
+    // Moves the reader to the value of the given member of the next object
+    private static void moveTo(JsonReader reader, String member) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (member.equals(reader.nextName())) {
+                return;
+            }
+            reader.skipValue();
+        }
+        throw new JSONException("JSONObject[\"" + member + "\"] not found.");
+    }
+
+    private static AdapterOutput decodeOutput(JsonReader reader) throws IOException {
+        String body = null;
+        int httpStatus = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (BODY.equals(name)) {
+                body = decodeBody(reader);
+            } else if (HTTP_STATUS.equals(name)) {
+                httpStatus = reader.nextInt();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new AdapterOutput(httpStatus, body);
+    }
+
+    private static String decodeBody(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        } else {
+            // An embedded JSON object or array
+            return JsonParser.parseReader(reader).toString();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.ControllerSettings;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Groups requests to an A1 controller into one multi-request RPC. A batch is sent when it is full or when the
+ * batch window has elapsed, whichever comes first. The response of each request is delivered to its caller.
+ *
+ * The RPC input is {"input":{"requests":[{"rpc-name":..,"near-rt-ric-url":..,"body":..}]}} and the output is
+ * {"output":{"responses":[{"http-status":..,"body":..}]}}, where the responses are in the same order as the
+ * requests.
+ *
+ * There is one batcher per controller, shared by all RICs behind it that use the same REST client to it.
+ */
+class A1AdapterRequestBatcher {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Map<String, A1AdapterRequestBatcher> batchers = new ConcurrentHashMap<>();
+
+    @Getter
+    static class BatchRequest {
+        private final String rpcName;
+        private final String nearRtRicUrl;
+        private final String body;
+
+        BatchRequest(String rpcName, String nearRtRicUrl, String body) {
+            this.rpcName = rpcName;
+            this.nearRtRicUrl = nearRtRicUrl;
+            this.body = body;
+        }
+    }
+
+    @Getter
+    static class BatchInput {
+        private final List<BatchRequest> requests;
+
+        BatchInput(List<BatchRequest> requests) {
+            this.requests = requests;
+        }
+    }
+
+    private static class QueuedRequest {
+        private final BatchRequest request;
+        private final MonoSink<AdapterOutput> sink;
+
+        QueuedRequest(BatchRequest request, MonoSink<AdapterOutput> sink) {
+            this.request = request;
+            this.sink = sink;
+        }
+    }
+
+    private final ControllerConfig controllerConfig;
+    private final ControllerSettings settings;
+    private final AsyncRestClient restClient;
+    private List<QueuedRequest> queued = new ArrayList<>();
+    private Disposable scheduledFlush = null;
+
+    static A1AdapterRequestBatcher getInstance(ControllerConfig controllerConfig, ControllerSettings settings,
+            AsyncRestClient restClient) {
+        return batchers.compute(controllerConfig.getName(), (name, existing) -> existing != null //
+                && existing.settings.equals(settings) //
+                && existing.controllerConfig.equals(controllerConfig) //
+                && existing.restClient == restClient //
+                        ? existing //
+                        : new A1AdapterRequestBatcher(controllerConfig, settings, restClient));
+    }
+
+    A1AdapterRequestBatcher(ControllerConfig controllerConfig, ControllerSettings settings,
+            AsyncRestClient restClient) {
+        this.controllerConfig = controllerConfig;
+        this.settings = settings;
+        this.restClient = restClient;
+    }
+
+    /**
+     * Queues a request to the controller.
+     *
+     * @param rpcName the RPC that shall be executed for the request
+     * @param ricUrl the URL in the Near-RT RIC
+     * @param body the body of the request or null
+     * @return the output of the request, as returned by the controller
+     */
+    Mono<AdapterOutput> submit(String rpcName, String ricUrl, String body) {
+        return Mono.create(sink -> {
+            QueuedRequest queuedRequest = new QueuedRequest(new BatchRequest(rpcName, ricUrl, body), sink);
+            sink.onCancel(() -> cancel(queuedRequest));
+            List<QueuedRequest> fullBatch = null;
+            synchronized (this) {
+                queued.add(queuedRequest);
+                if (queued.size() >= settings.getBatchMaxSize()) {
+                    fullBatch = takeQueued();
+                } else if (queued.size() == 1) {
+                    scheduledFlush = Schedulers.parallel().schedule(this::flush,
+                            settings.getBatchWindow().toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+            if (fullBatch != null) {
+                send(fullBatch);
+            }
+        });
+    }
+
+    // A cancelled request is not sent, unless its batch is already on its way
+    private synchronized void cancel(QueuedRequest queuedRequest) {
+        if (queued.remove(queuedRequest) && queued.isEmpty() && scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+    }
+
+    private void flush() {
+        List<QueuedRequest> batch;
+        synchronized (this) {
+            batch = takeQueued();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<QueuedRequest> takeQueued() {
+        List<QueuedRequest> batch = queued;
+        queued = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<QueuedRequest> batch) {
+        BatchInput input = new BatchInput(batch.stream().map(queuedRequest -> queuedRequest.request).toList());
+        String inputJsonString = A1MediatorAdapterICCSDK.gson.toJson(Map.of("input", input));
+        logger.debug("POST batch of {} requests to controller: {}", batch.size(), controllerConfig.getName());
+
+        restClient.postWithAuthHeader("/A1-ADAPTER-API:" + settings.getBatchRpcName(), inputJsonString,
+                controllerConfig.getUserName(), controllerConfig.getPassword()) //
+                .defaultIfEmpty("") //
+                .subscribe(response -> dispatch(batch, response), //
+                        throwable -> batch.forEach(queuedRequest -> queuedRequest.sink.error(throwable)));
+    }
+
+    private void dispatch(List<QueuedRequest> batch, String responseStr) {
+        List<AdapterOutput> outputs;
+        try {
+            outputs = A1AdapterOutputDecoder.decodeBatch(responseStr);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not parse batch response from controller: {}, {}", controllerConfig.getName(),
+                    e.getMessage());
+            outputs = null;
+        }
+
+        if (outputs == null || outputs.size() != batch.size()) {
+            ServiceException error = new ServiceException("Unexpected batch response from controller: "
+                    + controllerConfig.getName() + ", expected " + batch.size() + " responses");
+            batch.forEach(queuedRequest -> queuedRequest.sink.error(error));
+            return;
+        }
+        for (int i = 0; i < batch.size(); ++i) {
+            batch.get(i).sink.success(outputs.get(i));
+        }
+    }
+}
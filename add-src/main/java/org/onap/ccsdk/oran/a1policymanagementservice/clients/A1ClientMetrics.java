@@ -0,0 +1,166 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.MetricsSettings;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Metrics for the requests that an A1 client sends to one Near-RT RIC.
+ *
+ * 'a1.client.requests' is a timer tagged by RIC, adapter, operation and outcome. 'a1.client.requests.active' is
+ * the number of ongoing requests to the RIC and 'a1.client.controller.requests.active' the number of ongoing
+ * requests to the A1 controller (if any) that the RIC is accessed through. Answers from the caches in the
+ * adapters are not requests to the RIC and are not recorded.
+ */
+class A1ClientMetrics {
+    static final String REQUESTS = "a1.client.requests";
+    static final String ACTIVE_REQUESTS = "a1.client.requests.active";
+    static final String ACTIVE_CONTROLLER_REQUESTS = "a1.client.controller.requests.active";
+
+    static final String SUCCESS = "SUCCESS";
+    static final String CLIENT_ERROR = "CLIENT_ERROR";
+    static final String SERVER_ERROR = "SERVER_ERROR";
+    static final String UNKNOWN = "UNKNOWN";
+    static final String CANCELLED = "CANCELLED";
+
+    static final String ALL_RICS = "all";
+
+    // The number of ongoing requests per gauge, shared by all A1 clients for the same RIC or controller
+    private static final Map<String, AtomicInteger> ongoingRequests = new ConcurrentHashMap<>();
+
+    private final MeterRegistry registry;
+    private final MetricsSettings settings;
+    private final Tags tags;
+    private final Duration[] serviceLevelObjectives;
+    private final AtomicInteger activeRequests;
+    private final AtomicInteger activeControllerRequests; // null if the RIC is not accessed through a controller
+
+    private class Measurement {
+        private final AtomicBoolean stopped = new AtomicBoolean(false);
+        private final String operation;
+        private final Timer.Sample sample;
+
+        Measurement(String operation) {
+            this.operation = operation;
+            this.sample = Timer.start(registry);
+            activeRequests.incrementAndGet();
+            if (activeControllerRequests != null) {
+                activeControllerRequests.incrementAndGet();
+            }
+        }
+
+        void stop(String outcome) {
+            if (stopped.compareAndSet(false, true)) {
+                sample.stop(timer(operation, outcome));
+                activeRequests.decrementAndGet();
+                if (activeControllerRequests != null) {
+                    activeControllerRequests.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    A1ClientMetrics(MeterRegistry registry, MetricsSettings settings, Class<?> adapter, String ricId,
+            String controllerName) {
+        this.registry = registry;
+        this.settings = settings;
+        String ricTag = settings.isRicTag() ? ricId : ALL_RICS;
+        this.tags = Tags.of("ric", ricTag, "adapter", adapter.getSimpleName());
+        this.serviceLevelObjectives = settings.getHistogramBuckets().toArray(new Duration[0]);
+        this.activeRequests = ongoingRequestsGauge(ACTIVE_REQUESTS, "Ongoing requests to Near-RT RICs", tags);
+        this.activeControllerRequests = controllerName == null ? null
+                : ongoingRequestsGauge(ACTIVE_CONTROLLER_REQUESTS, "Ongoing requests to A1 controllers",
+                        Tags.of("controller", controllerName));
+    }
+
+    private AtomicInteger ongoingRequestsGauge(String name, String description, Tags gaugeTags) {
+        AtomicInteger ongoing = ongoingRequests.computeIfAbsent(name + gaugeTags, key -> new AtomicInteger());
+        Gauge.builder(name, ongoing, AtomicInteger::get) //
+                .description(description) //
+                .tags(gaugeTags) //
+                .strongReference(true) //
+                .register(registry);
+        return ongoing;
+    }
+
+    <T> Mono<T> record(String operation, Mono<T> request) {
+        if (!settings.isEnabled()) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            Measurement measurement = new Measurement(operation);
+            return request //
+                    .doOnSuccess(value -> measurement.stop(SUCCESS)) //
+                    .doOnError(throwable -> measurement.stop(outcome(throwable))) //
+                    .doOnCancel(() -> measurement.stop(CANCELLED));
+        });
+    }
+
+    <T> Flux<T> record(String operation, Flux<T> request) {
+        if (!settings.isEnabled()) {
+            return request;
+        }
+        return Flux.defer(() -> {
+            Measurement measurement = new Measurement(operation);
+            return request //
+                    .doOnComplete(() -> measurement.stop(SUCCESS)) //
+                    .doOnError(throwable -> measurement.stop(outcome(throwable))) //
+                    .doOnCancel(() -> measurement.stop(CANCELLED));
+        });
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder(REQUESTS) //
+                .description("Requests to Near-RT RICs") //
+                .tags(tags) //
+                .tag("operation", operation) //
+                .tag("outcome", outcome) //
+                .publishPercentileHistogram(settings.isPercentileHistogram()) //
+                .serviceLevelObjectives(serviceLevelObjectives) //
+                .register(registry);
+    }
+
+    static String outcome(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException responseException) {
+            if (responseException.getStatusCode().is4xxClientError()) {
+                return CLIENT_ERROR;
+            } else if (responseException.getStatusCode().is5xxServerError()) {
+                return SERVER_ERROR;
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -20,11 +20,13 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
-import static org.onap.ccsdk.oran.a1policymanagementservice.clients.OscA1Client.extractCreateSchema;
-
+import io.micrometer.core.instrument.Metrics;
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.slf4j.Logger;
@@ -36,8 +38,7 @@ import reactor.core.publisher.Mono;
  * Client for accessing OSC A1-Mediator A1-P Version (Release I)
  */
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
-public class A1MediatorAdapterI implements A1Client {
-    static final int CONCURRENCY_RIC = 1; // How many parallel requests that is sent to one NearRT RIC
+public class A1MediatorAdapterI implements StreamingA1Client {
 
     public static class Factory implements A1Client.Factory {
         @Override
@@ -55,15 +56,38 @@ public class A1MediatorAdapterI implements A1Client {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final AsyncRestClient restClient;
     private final A1MediatorRelIUriBuilder uriBuilder;
+    private final RicConcurrencyLimiter concurrencyLimiter;
+    private final int listingConcurrency;
+    private final String ricId;
+    private final Duration schemaCacheTtl;
+    private final PolicyTypeSchemaCache schemaCache = PolicyTypeSchemaCache.getInstance();
+    private final A1ClientMetrics metrics;
+    private final PolicyStatusCache statusCache;
+    private final RicBulkDelete bulkDelete;
+    private final RicCircuitBreaker circuitBreaker;
 
     public A1MediatorAdapterI(RicConfig ricConfig, AsyncRestClientFactory restClientFactory) {
         this(ricConfig, restClientFactory.createRestClientUseHttpProxy(""));
     }
 
     public A1MediatorAdapterI(RicConfig ricConfig, AsyncRestClient restClient) {
+        this(ricConfig, restClient, A1MediatorAdapterConfig.getCurrent().getRicSettings(ricConfig.getRicId()));
+    }
+
+    A1MediatorAdapterI(RicConfig ricConfig, AsyncRestClient restClient, RicSettings ricSettings) {
         this.restClient = restClient;
-        logger.debug("A1MediatorAdapterI for ric: {}", ricConfig.getRicId());
+        logger.debug("A1MediatorAdapterI for ric: {}, settings: {}", ricConfig.getRicId(), ricSettings);
         uriBuilder = new A1MediatorRelIUriBuilder(ricConfig);
+        ricId = ricConfig.getRicId();
+        RicState ricState = RicState.get(ricId, ricSettings);
+        concurrencyLimiter = ricState.getConcurrencyLimiter();
+        listingConcurrency = Math.max(1, ricSettings.getListingConcurrency());
+        schemaCacheTtl = ricSettings.getSchemaCacheTtl();
+        statusCache = ricState.getStatusCache();
+        bulkDelete = ricState.getBulkDelete();
+        circuitBreaker = ricState.getCircuitBreaker();
+        metrics = new A1ClientMetrics(Metrics.globalRegistry, A1MediatorAdapterConfig.getCurrent().getMetrics(),
+                getClass(), ricId, null);
     }
 
     @Override
@@ -74,28 +98,37 @@ public class A1MediatorAdapterI implements A1Client {
 
     @Override
     public Mono<List<String>> getPolicyIdentities() {
-        return getPolicyTypeIds() //
-                .flatMap(this::getPolicyIdentitiesByType) //
+        return streamPolicyIdentities() //
+                .map(PolicyId::getPolicyId) //
                 .collectList();
     }
 
+    @Override
+    public Flux<PolicyId> streamPolicyIdentities() {
+        return getPolicyTypeIds() //
+                .flatMap(typeId -> getPolicyIdentitiesByType(typeId) //
+                        .map(policyId -> new PolicyId(typeId, policyId)), listingConcurrency);
+    }
+
     @Override
     public Mono<String> getPolicyTypeSchema(String policyTypeId) {
         String schemaUri = uriBuilder.createGetSchemaUri(policyTypeId);
-        return restClient.get(schemaUri) //
-                .flatMap(response -> extractCreateSchema(response, policyTypeId));
+        return schemaCache.getSchema(ricId, policyTypeId, schemaCacheTtl,
+                () -> metrics.record("getPolicyTypeSchema", get(schemaUri)));
     }
 
     @Override
     public Mono<String> putPolicy(Policy policy) {
         String policyUri = this.uriBuilder.createPutPolicyUri(policy.getType().getId(), policy.getId(),
                 policy.getStatusNotificationUri());
-        return restClient.put(policyUri, policy.getJson());
+        return metrics.record("putPolicy", put(policyUri, policy.getJson()) //
+                .doFinally(signal -> statusCache.invalidate(policy.getType().getId(), policy.getId())));
     }
 
     @Override
     public Mono<String> deletePolicy(Policy policy) {
-        return deletePolicyById(policy.getType().getId(), policy.getId());
+        return metrics.record("deletePolicy", deletePolicyById(policy.getType().getId(), policy.getId()) //
+                .doFinally(signal -> statusCache.invalidate(policy.getType().getId(), policy.getId())));
     }
 
     @Override
@@ -105,35 +138,51 @@ public class A1MediatorAdapterI implements A1Client {
 
     @Override
     public Flux<String> deleteAllPolicies(Set<String> excludePolicyIds) {
-        return getPolicyTypeIds() //
-                .flatMap(typeId -> deletePoliciesForType(typeId, excludePolicyIds), CONCURRENCY_RIC);
+        return metrics.record("deleteAllPolicies", getPolicyTypeIds() //
+                .flatMap(typeId -> deletePoliciesForType(typeId, excludePolicyIds), concurrencyLimiter.getMaxLimit()));
     }
 
     @Override
     public Mono<String> getPolicyStatus(Policy policy) {
         String statusUri = uriBuilder.createGetPolicyStatusUri(policy.getType().getId(), policy.getId());
-        return restClient.get(statusUri);
+        return statusCache.getStatus(policy.getType().getId(), policy.getId(),
+                () -> metrics.record("getPolicyStatus", get(statusUri)));
 
     }
 
     private Flux<String> getPolicyTypeIds() {
-        return restClient.get(uriBuilder.createPolicyTypesUri()) //
+        return get(uriBuilder.createPolicyTypesUri()) //
                 .flatMapMany(A1AdapterJsonHelper::parseJsonArrayOfString);
     }
 
     private Flux<String> getPolicyIdentitiesByType(String typeId) {
-        return restClient.get(uriBuilder.createGetPolicyIdsUri(typeId)) //
+        return get(uriBuilder.createGetPolicyIdsUri(typeId)) //
                 .flatMapMany(A1AdapterJsonHelper::parseJsonArrayOfString);
     }
 
     private Mono<String> deletePolicyById(String typeId, String policyId) {
         String policyUri = uriBuilder.createDeleteUri(typeId, policyId);
-        return restClient.delete(policyUri);
+        return delete(policyUri);
     }
 
     private Flux<String> deletePoliciesForType(String typeId, Set<String> excludePolicyIds) {
-        return getPolicyIdentitiesByType(typeId) //
-                .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                .flatMap(policyId -> deletePolicyById(typeId, policyId), CONCURRENCY_RIC);
+        String policiesUri = uriBuilder.createGetPolicyIdsUri(typeId);
+        Flux<String> policyIds = concurrencyLimiter.execute(get(policiesUri)) //
+                .flatMapMany(A1AdapterJsonHelper::parseJsonArrayOfString);
+        return bulkDelete.deletePolicies(policyIds, excludePolicyIds,
+                policyId -> concurrencyLimiter.execute(deletePolicyById(typeId, policyId)),
+                () -> concurrencyLimiter.execute(delete(policiesUri)), concurrencyLimiter.getMaxLimit());
+    }
+
+    private Mono<String> get(String uri) {
+        return circuitBreaker.execute(restClient.get(uri));
+    }
+
+    private Mono<String> put(String uri, String body) {
+        return circuitBreaker.execute(restClient.put(uri, body));
+    }
+
+    private Mono<String> delete(String uri) {
+        return circuitBreaker.execute(restClient.delete(uri));
     }
 }
@@ -20,13 +20,17 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
-import static org.onap.ccsdk.oran.a1policymanagementservice.clients.OscA1Client.extractCreateSchema;
-
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.GsonBuilder;
 
+import io.micrometer.core.instrument.Metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -35,6 +39,9 @@ import lombok.Getter;
 
 import org.json.JSONObject;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterI.A1MediatorRelIUriBuilder;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.ControllerSettings;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
@@ -50,9 +57,7 @@ import reactor.core.publisher.Mono;
  * Client for accessing the A1 adapter in the CCSDK in ONAP using custom protocol defined in A1MediatorAdapterI.
  */
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
-public class A1MediatorAdapterICCSDK implements A1Client {
-
-    static final int CONCURRENCY_RIC = 1; // How many parallel requests that is sent to one NearRT RIC
+public class A1MediatorAdapterICCSDK implements StreamingA1Client {
 
     static com.google.gson.Gson gson = new GsonBuilder() //
             .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_DASHES) //
@@ -85,14 +90,23 @@ public class A1MediatorAdapterICCSDK implements A1Client {
     }
 
     private static final String GET_POLICY_RPC = "getA1Policy";
+    private static final String DELETE_POLICY_RPC = "deleteA1Policy";
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final AsyncRestClient restClient;
     private final RicConfig ricConfig;
     private final A1MediatorRelIUriBuilder uriBuilder;
-
+    private final RicConcurrencyLimiter concurrencyLimiter;
+    private final int listingConcurrency;
+    private final Duration schemaCacheTtl;
+    private final PolicyTypeSchemaCache schemaCache = PolicyTypeSchemaCache.getInstance();
+    private final A1ClientMetrics metrics;
+    private final PolicyStatusCache statusCache;
+    private final RicBulkDelete bulkDelete;
+    private final RicCircuitBreaker circuitBreaker;
+    private final A1AdapterRequestBatcher batcher; // null if batching is not enabled for the controller
 
     /**
-     * Constructor that creates the REST client to use.
+     * Constructor that creates the REST client to use, or reuses the one of the controller.
      *
      * @param ricConfig the configuration of the Near-RT RIC to communicate
      *        with
@@ -102,8 +116,9 @@ public class A1MediatorAdapterICCSDK implements A1Client {
      */
     public A1MediatorAdapterICCSDK(RicConfig ricConfig,
             AsyncRestClientFactory restClientFactory) {
-        this(A1ProtocolType.CUSTOM_PROTOCOL, ricConfig, restClientFactory
-                .createRestClientNoHttpProxy(ricConfig.getControllerConfig().getBaseUrl() + "/rests/operations"));
+        this(A1ProtocolType.CUSTOM_PROTOCOL, ricConfig,
+                ControllerRestClients.get(ricConfig.getControllerConfig(), A1MediatorAdapterConfig.getCurrent()
+                        .getControllerSettings(ricConfig.getControllerConfig().getName()), restClientFactory));
     }
 
     /**
@@ -117,10 +132,42 @@ public class A1MediatorAdapterICCSDK implements A1Client {
      * @throws IllegalArgumentException when the protocolType is illegal.
      */
     A1MediatorAdapterICCSDK(A1ProtocolType protocolType, RicConfig ricConfig, AsyncRestClient restClient) {
+        this(protocolType, ricConfig, restClient, A1MediatorAdapterConfig.getCurrent());
+    }
+
+    /**
+     * Constructor where the REST client and the adapter configuration to use are
+     * provided.
+     *
+     * @param protocolType the southbound protocol of the controller
+     * @param ricConfig the configuration of the Near-RT RIC to communicate
+     *        with
+     * @param restClient the REST client to use
+     * @param adapterConfig the tuning of the adapter
+     *
+     * @throws IllegalArgumentException when the protocolType is illegal.
+     */
+    A1MediatorAdapterICCSDK(A1ProtocolType protocolType, RicConfig ricConfig, AsyncRestClient restClient,
+            A1MediatorAdapterConfig adapterConfig) {
         if (A1ProtocolType.CUSTOM_PROTOCOL.equals(protocolType)) {
             this.restClient = restClient;
             this.ricConfig = ricConfig;
             this.uriBuilder = new A1MediatorAdapterI.A1MediatorRelIUriBuilder(ricConfig);
+            RicSettings ricSettings = adapterConfig.getRicSettings(ricConfig.getRicId());
+            RicState ricState = RicState.get(ricConfig.getRicId(), ricSettings);
+            this.concurrencyLimiter = ricState.getConcurrencyLimiter();
+            this.listingConcurrency = Math.max(1, ricSettings.getListingConcurrency());
+            this.schemaCacheTtl = ricSettings.getSchemaCacheTtl();
+            this.statusCache = ricState.getStatusCache();
+            this.bulkDelete = ricState.getBulkDelete();
+            this.circuitBreaker = ricState.getCircuitBreaker();
+            this.metrics = new A1ClientMetrics(Metrics.globalRegistry, adapterConfig.getMetrics(), getClass(),
+                    ricConfig.getRicId(), ricConfig.getControllerConfig().getName());
+            ControllerConfig controllerConfig = ricConfig.getControllerConfig();
+            ControllerSettings controllerSettings = adapterConfig.getControllerSettings(controllerConfig.getName());
+            this.batcher = controllerSettings.isBatchEnabled()
+                    ? A1AdapterRequestBatcher.getInstance(controllerConfig, controllerSettings, restClient)
+                    : null;
             logger.debug("CcsdkA1AdapterClient for ric: {}, a1Controller: {}", ricConfig.getRicId(),
                     ricConfig.getControllerConfig());
         } else {
@@ -138,34 +185,46 @@ public class A1MediatorAdapterICCSDK implements A1Client {
 
     @Override
     public Mono<List<String>> getPolicyIdentities() {
-        return getPolicyIds() //
+        return streamPolicyIdentities() //
+                .map(PolicyId::getPolicyId) //
                 .collectList();
     }
 
+    @Override
+    public Flux<PolicyId> streamPolicyIdentities() {
+        return getPolicyTypeIdentities() //
+                .flatMapMany(Flux::fromIterable) //
+                .flatMap(type -> getInstancesForType(uriBuilder, type) //
+                        .map(policyId -> new PolicyId(type, policyId)), listingConcurrency);
+    }
+
     @Override
     public Mono<String> getPolicyTypeSchema(String policyTypeId) {
         final String ricUrl = uriBuilder.createGetSchemaUri(policyTypeId);
-        return post(GET_POLICY_RPC, ricUrl, Optional.empty()) //
-                .flatMap(response -> extractCreateSchema(response, policyTypeId));
+        return schemaCache.getSchema(ricConfig.getRicId(), policyTypeId, schemaCacheTtl,
+                () -> metrics.record("getPolicyTypeSchema", post(GET_POLICY_RPC, ricUrl, Optional.empty())));
     }
 
     @Override
     public Mono<String> putPolicy(Policy policy) {
         String ricUrl = uriBuilder.createPutPolicyUri(policy.getType().getId(), policy.getId(),
                 policy.getStatusNotificationUri());
-        return post("putA1Policy", ricUrl, Optional.of(policy.getJson()));
+        return metrics.record("putPolicy", post("putA1Policy", ricUrl, Optional.of(policy.getJson())) //
+                .doFinally(signal -> statusCache.invalidate(policy.getType().getId(), policy.getId())));
     }
 
     @Override
     public Mono<String> deletePolicy(Policy policy) {
-        return deletePolicyById(policy.getType().getId(), policy.getId());
+        return metrics.record("deletePolicy", deletePolicyById(policy.getType().getId(), policy.getId()) //
+                .doFinally(signal -> statusCache.invalidate(policy.getType().getId(), policy.getId())));
     }
 
     @Override
     public Flux<String> deleteAllPolicies(Set<String> excludePolicyIds) {
-        return getPolicyTypeIdentities() //
+        return metrics.record("deleteAllPolicies", getPolicyTypeIdentities() //
                 .flatMapMany(Flux::fromIterable) //
-                .flatMap(type -> deleteAllInstancesForType(uriBuilder, type, excludePolicyIds), CONCURRENCY_RIC);
+                .flatMap(type -> deleteAllInstancesForType(uriBuilder, type, excludePolicyIds),
+                        concurrencyLimiter.getMaxLimit()));
     }
 
     private Flux<String> getInstancesForType(A1UriBuilder uriBuilder, String type) {
@@ -174,9 +233,13 @@ public class A1MediatorAdapterICCSDK implements A1Client {
     }
 
     private Flux<String> deleteAllInstancesForType(A1UriBuilder uriBuilder, String type, Set<String> excludePolicyIds) {
-        return getInstancesForType(uriBuilder, type) //
-                .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                .flatMap(policyId -> deletePolicyById(type, policyId), CONCURRENCY_RIC);
+        String ricUrl = uriBuilder.createGetPolicyIdsUri(type);
+        Flux<String> policyIds = concurrencyLimiter.execute(post(GET_POLICY_RPC, ricUrl, Optional.empty())) //
+                .flatMapMany(A1AdapterJsonHelper::parseJsonArrayOfString);
+        return bulkDelete.deletePolicies(policyIds, excludePolicyIds,
+                policyId -> concurrencyLimiter.execute(deletePolicyById(type, policyId)),
+                () -> concurrencyLimiter.execute(post(DELETE_POLICY_RPC, ricUrl, Optional.empty())),
+                concurrencyLimiter.getMaxLimit());
     }
 
     @Override
@@ -187,36 +250,52 @@ public class A1MediatorAdapterICCSDK implements A1Client {
     @Override
     public Mono<String> getPolicyStatus(Policy policy) {
         String ricUrl = uriBuilder.createGetPolicyStatusUri(policy.getType().getId(), policy.getId());
-        return post("getA1PolicyStatus", ricUrl, Optional.empty());
-    }
-
-    private Flux<String> getPolicyIds() {
-        return getPolicyTypeIdentities() //
-                .flatMapMany(Flux::fromIterable)
-                .flatMap(type -> post(GET_POLICY_RPC, uriBuilder.createGetPolicyIdsUri(type), Optional.empty())) //
-                .flatMap(A1AdapterJsonHelper::parseJsonArrayOfString);
+        return statusCache.getStatus(policy.getType().getId(), policy.getId(),
+                () -> metrics.record("getPolicyStatus", post("getA1PolicyStatus", ricUrl, Optional.empty())));
     }
 
     private Mono<String> deletePolicyById(String type, String policyId) {
         String ricUrl = uriBuilder.createDeleteUri(type, policyId);
-        return post("deleteA1Policy", ricUrl, Optional.empty());
+        return post(DELETE_POLICY_RPC, ricUrl, Optional.empty());
     }
 
     private Mono<String> post(String rpcName, String ricUrl, Optional<String> body) {
-        AdapterRequest inputParams = new AdapterRequest(ricUrl, body.isPresent() ? body.get() : null);
-
-        final String inputJsonString = A1AdapterJsonHelper.createInputJsonString(inputParams);
+        if (batcher != null) {
+            return circuitBreaker.execute(batcher.submit(rpcName, ricUrl, body.orElse(null)) //
+                    .flatMap(output -> extractResponse(output, ricUrl)));
+        }
+        final String inputJsonString = encodeInput(ricUrl, body.orElse(null));
         logger.debug("POST inputJsonString = {}", inputJsonString);
         ControllerConfig controllerConfig = this.ricConfig.getControllerConfig();
-        return restClient
+        return circuitBreaker.execute(restClient
                 .postWithAuthHeader(controllerUrl(rpcName), inputJsonString, controllerConfig.getUserName(),
                         controllerConfig.getPassword()) //
-                .flatMap(resp -> extractResponseBody(resp, ricUrl));
+                .flatMap(resp -> extractResponseBody(resp, ricUrl)));
     }
 
-    private Mono<String> extractResponse(JSONObject responseOutput, String ricUrl) {
-        AdapterOutput output = gson.fromJson(responseOutput.toString(), AdapterOutput.class);
+    /**
+     * Encodes the input of a controller RPC, {"input":{"near-rt-ric-url":..,"body":..}}. The result is the same as
+     * from A1AdapterJsonHelper.createInputJsonString for an AdapterRequest, but the policy body is escaped once
+     * directly into the result instead of being serialized, parsed and serialized again.
+     */
+    static String encodeInput(String ricUrl, String body) {
+        int bodyLength = body == null ? 0 : body.length();
+        StringWriter json = new StringWriter(48 + ricUrl.length() + bodyLength + bodyLength / 8);
+        try {
+            json.write("{\"input\":{\"near-rt-ric-url\":");
+            JSONObject.quote(ricUrl, json);
+            if (body != null) {
+                json.write(",\"body\":");
+                JSONObject.quote(body, json);
+            }
+            json.write("}}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not thrown by StringWriter
+        }
+        return json.toString();
+    }
 
+    private Mono<String> extractResponse(AdapterOutput output, String ricUrl) {
         String body = output.body == null ? "" : output.body;
         if (HttpStatus.valueOf(output.httpStatus).is2xxSuccessful()) {
             return Mono.just(body);
@@ -232,8 +311,8 @@ public class A1MediatorAdapterICCSDK implements A1Client {
     }
 
     private Mono<String> extractResponseBody(String responseStr, String ricUrl) {
-        return A1AdapterJsonHelper.getOutput(responseStr) //
-                .flatMap(responseOutput -> extractResponse(responseOutput, ricUrl));
+        return Mono.fromCallable(() -> A1AdapterOutputDecoder.decode(responseStr)) //
+                .flatMap(output -> extractResponse(output, ricUrl));
     }
 
     private String controllerUrl(String rpcName) {
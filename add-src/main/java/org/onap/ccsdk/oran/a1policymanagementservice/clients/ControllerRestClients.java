@@ -0,0 +1,66 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.ControllerSettings;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The REST clients used for accessing A1 controllers. All RICs behind the same controller share one client, and
+ * thereby one connection pool, instead of opening their own connections to the controller.
+ */
+final class ControllerRestClients {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Map<String, AsyncRestClient> clients = new ConcurrentHashMap<>();
+
+    private ControllerRestClients() {}
+
+    /**
+     * Gets the REST client for an A1 controller.
+     *
+     * @param controllerConfig the controller
+     * @param settings the tuning of the controller
+     * @param restClientFactory creates the client if there is none for the controller
+     * @return a client with the base URL of the controller operations
+     */
+    static AsyncRestClient get(ControllerConfig controllerConfig, ControllerSettings settings,
+            AsyncRestClientFactory restClientFactory) {
+        String baseUrl = controllerConfig.getBaseUrl() + "/rests/operations";
+        if (!settings.isSharedRestClient()) {
+            return restClientFactory.createRestClientNoHttpProxy(baseUrl);
+        }
+        return clients.computeIfAbsent(baseUrl, url -> {
+            logger.debug("Creating shared REST client for controller: {}, {}", controllerConfig.getName(), url);
+            return restClientFactory.createRestClientNoHttpProxy(url);
+        });
+    }
+
+    static void clear() {
+        clients.clear();
+    }
+}
@@ -0,0 +1,254 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reduces the number of policy status requests sent to one Near-RT RIC.
+ *
+ * Concurrent requests for the status of the same policy are merged into one request to the RIC. A fetched status
+ * is reused while it is younger than the status cache TTL. Optionally, an older status is returned at once while
+ * it is refreshed in the background. The requests that are sent to the RIC are limited by a token bucket, a
+ * request that would have to wait too long for a token fails at once with 429 (Too Many Requests).
+ *
+ * There is one cache per RIC, kept in the {@link RicState} of the RIC.
+ */
+class PolicyStatusCache {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int MAX_CACHED_STATUSES = 10000;
+
+    private static class CachedStatus {
+        private final String status;
+        private final long fetchedMillis;
+
+        CachedStatus(String status, long fetchedMillis) {
+            this.status = status;
+            this.fetchedMillis = fetchedMillis;
+        }
+    }
+
+    /**
+     * A token bucket where a request that finds the bucket empty reserves a future token and waits for it.
+     */
+    static class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double tokensPerSecond, int burst) {
+            this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = this.capacity;
+            this.lastRefillNanos = now();
+        }
+
+        /**
+         * @param maxWait the longest time the caller will wait for a token
+         * @return the time to wait before the reserved token is available, or null if no token is available
+         *         within maxWait (then no token is reserved)
+         */
+        synchronized Duration reserve(Duration maxWait) {
+            long nowNanos = now();
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+            double remaining = tokens - 1;
+            Duration wait =
+                    remaining >= 0 ? Duration.ZERO : Duration.ofNanos((long) Math.ceil(-remaining / tokensPerNano));
+            if (wait.compareTo(maxWait) > 0) {
+                return null;
+            }
+            tokens = remaining;
+            return wait;
+        }
+
+        private static long now() {
+            return Schedulers.parallel().now(TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final String ricId;
+    private volatile RicSettings settings;
+    private volatile long ttlMillis;
+    private volatile boolean isCaching;
+    private volatile TokenBucket tokenBucket; // null if the requests are not rate limited
+    private final Cache<String, CachedStatus> statuses =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_STATUSES).build();
+    // The ongoing fetch per policy. A fetch only stores its status while it is the ongoing one, so a fetch that
+    // was started before the policy was modified does not overwrite the cache when it completes.
+    private final Map<String, Fetch> ongoing = new ConcurrentHashMap<>();
+
+    private class Fetch {
+        private final Mono<String> status;
+
+        Fetch(String key, Supplier<Mono<String>> fetchStatus) {
+            this.status = rateLimited(fetchStatus) //
+                    .doOnNext(fetched -> store(key, this, fetched)) //
+                    .doFinally(signal -> ongoing.remove(key, this)) //
+                    .cache();
+        }
+    }
+
+    PolicyStatusCache(String ricId, RicSettings settings) {
+        this.ricId = ricId;
+        update(settings);
+    }
+
+    /**
+     * Applies changed settings. The cached statuses are kept while caching is enabled, and the token bucket is
+     * only replaced if the rate limit is changed.
+     */
+    synchronized void update(RicSettings settings) {
+        RicSettings previous = this.settings;
+        this.settings = settings;
+        this.ttlMillis = settings.getStatusCacheTtl().toMillis();
+        this.isCaching = ttlMillis > 0 || settings.isStatusServeStale();
+        if (previous == null || previous.getStatusRateLimit() != settings.getStatusRateLimit()
+                || previous.getStatusRateBurst() != settings.getStatusRateBurst()) {
+            this.tokenBucket = settings.getStatusRateLimit() > 0
+                    ? new TokenBucket(settings.getStatusRateLimit(), settings.getStatusRateBurst())
+                    : null;
+        }
+        if (!isCaching) {
+            statuses.invalidateAll();
+        }
+    }
+
+    /**
+     * Gets the status of a policy.
+     *
+     * @param policyTypeId the type of the policy
+     * @param policyId the policy
+     * @param fetchStatus fetches the status from the RIC, invoked only if the status is not cached and there is no
+     *        ongoing request for it
+     * @return the status of the policy, looked up in the cache when subscribed to
+     */
+    Mono<String> getStatus(String policyTypeId, String policyId, Supplier<Mono<String>> fetchStatus) {
+        return Mono.defer(() -> lookupStatus(policyTypeId, policyId, fetchStatus));
+    }
+
+    private Mono<String> lookupStatus(String policyTypeId, String policyId, Supplier<Mono<String>> fetchStatus) {
+        String key = key(policyTypeId, policyId);
+        CachedStatus cached = isCaching ? statuses.getIfPresent(key) : null;
+        if (cached != null) {
+            long ageMillis = now() - cached.fetchedMillis;
+            if (ageMillis < ttlMillis) {
+                return Mono.just(cached.status);
+            }
+            if (settings.isStatusServeStale()) {
+                logger.debug("Returning status of policy: {} in ric: {}, age: {} ms, refreshing", policyId, ricId,
+                        ageMillis);
+                refresh(key, fetchStatus).subscribe(status -> {},
+                        throwable -> logger.debug("Refresh of status of policy: {} in ric: {} failed: {}", policyId,
+                                ricId, throwable.getMessage()));
+                return Mono.just(cached.status);
+            }
+        }
+        return refresh(key, fetchStatus);
+    }
+
+    /**
+     * Removes the cached status of a policy, which shall be done when the policy is modified or deleted. A fetch
+     * of the status that is ongoing is not reused by later requests and its result is not cached.
+     */
+    void invalidate(String policyTypeId, String policyId) {
+        String key = key(policyTypeId, policyId);
+        ongoing.remove(key);
+        statuses.invalidate(key);
+    }
+
+    /**
+     * Drops all cached statuses, which is done when the RIC is removed. Fetches that are ongoing are not cached.
+     */
+    void close() {
+        ongoing.clear();
+        statuses.invalidateAll();
+    }
+
+    private Mono<String> refresh(String key, Supplier<Mono<String>> fetchStatus) {
+        return ongoing.computeIfAbsent(key, k -> new Fetch(k, fetchStatus)).status;
+    }
+
+    private void store(String key, Fetch fetch, String status) {
+        if (!isCaching) {
+            return;
+        }
+        // Atomic with respect to invalidate, which removes the ongoing fetch before the cached status
+        ongoing.computeIfPresent(key, (k, current) -> {
+            if (current == fetch) {
+                statuses.put(k, new CachedStatus(status, now()));
+            }
+            return current;
+        });
+    }
+
+    private Mono<String> rateLimited(Supplier<Mono<String>> fetchStatus) {
+        TokenBucket tokenBucket = this.tokenBucket;
+        if (tokenBucket == null) {
+            return Mono.defer(fetchStatus);
+        }
+        return Mono.defer(() -> {
+            Duration wait = tokenBucket.reserve(settings.getStatusRateMaxWait());
+            if (wait == null) {
+                return Mono.error(rateLimitExceeded());
+            }
+            return wait.isZero() ? fetchStatus.get() : Mono.delay(wait).then(Mono.defer(fetchStatus));
+        });
+    }
+
+    private WebClientResponseException rateLimitExceeded() {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.RETRY_AFTER, "1");
+        String message = "Too many policy status requests to ric: " + ricId;
+        return new WebClientResponseException(status.value(), status.getReasonPhrase(), headers,
+                message.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    private static String key(String policyTypeId, String policyId) {
+        return policyTypeId + "/" + policyId;
+    }
+
+    private static long now() {
+        return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,145 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.onap.ccsdk.oran.a1policymanagementservice.clients.OscA1Client.extractCreateSchema;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of the create schemas of policy types, shared by all Near-RT RICs.
+ *
+ * The extracted schemas are kept in a size bounded cache keyed by the policy type ID and a hash of the
+ * policy type fetched from the RIC. A policy type that is identical in several RICs is therefore only extracted
+ * once and the same schema instance is returned for all of them.
+ *
+ * If a time to live is given for a RIC, a schema fetched from that RIC is regarded as fresh for that long and
+ * is returned without contacting the RIC. When it is zero, the policy type is always fetched, but the schema is
+ * only extracted when the content has changed.
+ */
+class PolicyTypeSchemaCache {
+
+    private static PolicyTypeSchemaCache instance = null;
+
+    private static class CachedSchema {
+        private final String contentKey;
+        private final String schema;
+
+        CachedSchema(String contentKey, String schema) {
+            this.contentKey = contentKey;
+            this.schema = schema;
+        }
+    }
+
+    private static class FreshEntry {
+        private final String contentKey;
+        private final Instant expires;
+
+        FreshEntry(String contentKey, Instant expires) {
+            this.contentKey = contentKey;
+            this.expires = expires;
+        }
+    }
+
+    private final Cache<String, String> schemas;
+    private final Map<String, FreshEntry> freshEntries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    static synchronized PolicyTypeSchemaCache getInstance() {
+        if (instance == null) {
+            instance = new PolicyTypeSchemaCache(A1MediatorAdapterConfig.getCurrent().getSchemaCacheMaxSize(),
+                    Clock.systemUTC());
+        }
+        return instance;
+    }
+
+    PolicyTypeSchemaCache(long maxSize, Clock clock) {
+        this.schemas = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the create schema of a policy type.
+     *
+     * @param ricId the RIC where the policy type is fetched from
+     * @param policyTypeId the ID of the policy type
+     * @param timeToLive how long a fetched schema is regarded as fresh, zero if it shall always be fetched
+     * @param fetchPolicyType fetches the policy type from the RIC, invoked only if there is no fresh schema
+     * @return the create schema, looked up in the cache when subscribed to
+     */
+    Mono<String> getSchema(String ricId, String policyTypeId, Duration timeToLive,
+            Supplier<Mono<String>> fetchPolicyType) {
+        return Mono.defer(() -> lookupSchema(ricId, policyTypeId, timeToLive, fetchPolicyType));
+    }
+
+    private Mono<String> lookupSchema(String ricId, String policyTypeId, Duration timeToLive,
+            Supplier<Mono<String>> fetchPolicyType) {
+        String freshKey = ricId + "/" + policyTypeId;
+        FreshEntry fresh = freshEntries.get(freshKey);
+        if (fresh != null && clock.instant().isBefore(fresh.expires)) {
+            String schema = schemas.getIfPresent(fresh.contentKey);
+            if (schema != null) {
+                return Mono.just(schema);
+            }
+        }
+        return fetchPolicyType.get() //
+                .flatMap(policyType -> toSchema(policyTypeId, policyType)) //
+                .doOnNext(cached -> markFresh(freshKey, cached.contentKey, timeToLive)) //
+                .map(cached -> cached.schema);
+    }
+
+    private Mono<CachedSchema> toSchema(String policyTypeId, String policyType) {
+        String contentKey = policyTypeId + "/" + Hashing.sha256().hashString(policyType, StandardCharsets.UTF_8);
+        String schema = schemas.getIfPresent(contentKey);
+        if (schema != null) {
+            return Mono.just(new CachedSchema(contentKey, schema));
+        }
+        return extractCreateSchema(policyType, policyTypeId) //
+                .map(extracted -> new CachedSchema(contentKey, cache(contentKey, extracted)));
+    }
+
+    private String cache(String contentKey, String schema) {
+        String existing = schemas.asMap().putIfAbsent(contentKey, schema);
+        return existing != null ? existing : schema;
+    }
+
+    private void markFresh(String freshKey, String contentKey, Duration timeToLive) {
+        if (timeToLive.isZero() || timeToLive.isNegative()) {
+            freshEntries.remove(freshKey);
+        } else {
+            freshEntries.put(freshKey, new FreshEntry(contentKey, clock.instant().plus(timeToLive)));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.BulkDeleteMode;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Deletes the policies of one type in a Near-RT RIC, either one by one or, if the RIC supports it, with one DELETE
+ * of the policy collection of the type. The bulk delete is only used when none of the policies of the type shall
+ * be kept. Note that the DELETE of the policy collection is not defined by A1-P, it is an extension that only some
+ * RICs support.
+ *
+ * If the RIC rejects the bulk delete as not supported (400, 404, 405 or 501), the policies are deleted one by one.
+ * Other errors, such as 401, 403 or 429, fail the delete as they would for a policy deleted one by one. In mode AUTO,
+ * the rejection is remembered for the RIC, and the bulk delete is not tried again until the re-probe interval has
+ * elapsed.
+ */
+class RicBulkDelete {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final String ricId;
+    private volatile BulkDeleteMode mode;
+    private volatile Duration reprobeInterval;
+    private volatile long notSupportedUntilMillis = 0;
+
+    RicBulkDelete(String ricId, RicSettings settings) {
+        this.ricId = ricId;
+        update(settings);
+    }
+
+    /**
+     * Applies changed settings. A rejected bulk delete is still remembered until its re-probe time.
+     */
+    void update(RicSettings settings) {
+        this.mode = settings.getBulkDelete();
+        this.reprobeInterval = settings.getBulkDeleteReprobeInterval();
+    }
+
+    /**
+     * @return true if the policies of a type may be deleted with one request
+     */
+    boolean isEnabled() {
+        return mode != BulkDeleteMode.NONE && now() >= notSupportedUntilMillis;
+    }
+
+    /**
+     * Deletes the policies of one type.
+     *
+     * @param policyIds the policies of the type in the RIC
+     * @param excludePolicyIds the policies that shall not be deleted
+     * @param deletePolicy deletes one policy
+     * @param deleteAllPolicies deletes all policies of the type with one request
+     * @param concurrency max number of parallel deletes of one policy
+     * @return the responses of the deletes
+     */
+    Flux<String> deletePolicies(Flux<String> policyIds, Set<String> excludePolicyIds,
+            Function<String, Mono<String>> deletePolicy, Supplier<Mono<String>> deleteAllPolicies, int concurrency) {
+        if (!isEnabled()) {
+            return deleteOneByOne(policyIds.filter(policyId -> !excludePolicyIds.contains(policyId)), deletePolicy,
+                    concurrency);
+        }
+        return policyIds.collectList() //
+                .flatMapMany(ids -> {
+                    List<String> toDelete = ids.stream().filter(policyId -> !excludePolicyIds.contains(policyId))
+                            .toList();
+                    if (toDelete.size() < 2 || toDelete.size() != ids.size()) {
+                        return deleteOneByOne(Flux.fromIterable(toDelete), deletePolicy, concurrency);
+                    }
+                    return deleteAllPolicies.get() //
+                            .flux() //
+                            .onErrorResume(this::isNotSupported, throwable -> {
+                                logger.debug("Bulk delete not supported by ric: {}, {}", ricId, throwable.getMessage());
+                                if (mode == BulkDeleteMode.AUTO) {
+                                    notSupportedUntilMillis = now() + reprobeInterval.toMillis();
+                                }
+                                return deleteOneByOne(Flux.fromIterable(toDelete), deletePolicy, concurrency);
+                            });
+                });
+    }
+
+    private Flux<String> deleteOneByOne(Flux<String> policyIds, Function<String, Mono<String>> deletePolicy,
+            int concurrency) {
+        return policyIds.flatMap(deletePolicy, concurrency);
+    }
+
+    private boolean isNotSupported(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.NOT_FOUND.value()
+                    || status == HttpStatus.METHOD_NOT_ALLOWED.value() || status == HttpStatus.NOT_IMPLEMENTED.value();
+        }
+        return false;
+    }
+
+    private static long now() {
+        return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,327 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.MetricsSettings;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Protects against a Near-RT RIC that does not respond or fails.
+ *
+ * The circuit breaker opens when a number of requests in a row has failed (5xx, timeout or no connection). While it
+ * is open, requests fail at once with 503 and a Retry-After header. When the open duration has elapsed, one trial
+ * request is let through (half open), which closes the breaker if it succeeds. Only the outcome of a request that
+ * was let through after the breaker last opened changes the state, a late response to an older request does not.
+ *
+ * Requests can be given a timeout. In adaptive mode, the timeout is a multiple of the 99th percentile of the
+ * latency of recent requests to the RIC, bounded by the configured min and max. A request that times out fails
+ * with 504 and counts as a sample of the timeout length, so the timeout grows again when the RIC gets slower.
+ *
+ * There is one circuit breaker per RIC, kept in the {@link RicState} of the RIC.
+ */
+class RicCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    static final String STATE_METRIC = "a1.client.circuit.breaker.state";
+    static final String TIMEOUT_METRIC = "a1.client.request.timeout";
+
+    private static final int LATENCY_WINDOW = 100;
+    private static final int TIMEOUT_UPDATE_INTERVAL = 10;
+    private static final double TIMEOUT_PERCENTILE = 0.99;
+    private static final int TIMEOUT_MULTIPLIER = 3;
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    // A request that is let through by the breaker
+    private static final class Admission {
+        private final long generation; // The number of times the breaker had opened when the request was let through
+        private final boolean isTrial;
+        private final long startMillis = now();
+
+        Admission(long generation, boolean isTrial) {
+            this.generation = generation;
+            this.isTrial = isTrial;
+        }
+    }
+
+    private final String ricId;
+    private volatile RicSettings settings;
+    private long maxTimeoutMillis; // 0 if there is no upper bound
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int noOfLatencies = 0;
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAtMillis = 0;
+    private long generation = 0;
+    private boolean isTrialOngoing = false;
+    private long timeoutMillis;
+
+    RicCircuitBreaker(String ricId, RicSettings settings) {
+        this.ricId = ricId;
+        this.settings = settings;
+        this.maxTimeoutMillis = settings.getRequestTimeout().toMillis();
+        this.timeoutMillis = maxTimeoutMillis;
+    }
+
+    /**
+     * Applies changed settings. The state of the breaker and the learnt timeout are kept, unless the breaker is
+     * turned off, which closes it.
+     */
+    synchronized void update(RicSettings settings) {
+        this.settings = settings;
+        this.maxTimeoutMillis = settings.getRequestTimeout().toMillis();
+        if (!settings.isAdaptiveTimeout() || timeoutMillis == 0) {
+            timeoutMillis = maxTimeoutMillis;
+        } else {
+            timeoutMillis = Math.max(settings.getAdaptiveTimeoutMin().toMillis(), timeoutMillis);
+            timeoutMillis = maxTimeoutMillis > 0 ? Math.min(maxTimeoutMillis, timeoutMillis) : timeoutMillis;
+        }
+        if (!settings.isCircuitBreaker() && state != State.CLOSED) {
+            logger.info("Circuit breaker for ric: {} is turned off", ricId);
+            state = State.CLOSED;
+            isTrialOngoing = false;
+            consecutiveFailures = 0;
+            generation++;
+        }
+    }
+
+    /**
+     * Executes a request, unless the circuit breaker is open.
+     *
+     * @param request the request to the RIC
+     * @return the result of the request
+     */
+    <T> Mono<T> execute(Mono<T> request) {
+        if (!isEnabled()) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            Admission admission = tryAcquire();
+            if (admission == null) {
+                return Mono.error(circuitOpen(getRetryAfterMillis()));
+            }
+            final long timeout = getTimeoutMillis();
+            Mono<T> timedRequest = timeout == 0 ? request
+                    : request.timeout(Duration.ofMillis(timeout)) //
+                            .doOnError(TimeoutException.class, e -> onTimeout(timeout)) //
+                            .onErrorMap(TimeoutException.class, e -> timedOut(timeout));
+            return timedRequest //
+                    .doOnSuccess(value -> onSuccess(admission)) //
+                    .doOnError(throwable -> onError(admission, throwable)) //
+                    .doOnCancel(() -> onCancel(admission));
+        });
+    }
+
+    /**
+     * @return true if the requests are protected by the breaker or have a timeout
+     */
+    boolean isEnabled() {
+        RicSettings settings = this.settings;
+        return settings.isCircuitBreaker() || !settings.getRequestTimeout().isZero() || settings.isAdaptiveTimeout();
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return the current request timeout in milliseconds, 0 if there is none
+     */
+    synchronized long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * @return the admitted request, or null if the request may not be sent
+     */
+    private synchronized Admission tryAcquire() {
+        if (state == State.OPEN) {
+            if (now() - openedAtMillis < settings.getCircuitBreakerOpenDuration().toMillis()) {
+                return null;
+            }
+            logger.debug("Circuit breaker for ric: {} is half open", ricId);
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (isTrialOngoing) {
+                return null;
+            }
+            isTrialOngoing = true;
+            return new Admission(generation, true);
+        }
+        return new Admission(generation, false);
+    }
+
+    /**
+     * @return the time until the breaker will let a request through
+     */
+    private synchronized long getRetryAfterMillis() {
+        long openDurationMillis = settings.getCircuitBreakerOpenDuration().toMillis();
+        return state == State.OPEN ? openDurationMillis - (now() - openedAtMillis) : openDurationMillis;
+    }
+
+    private synchronized void onSuccess(Admission admission) {
+        recordLatency(now() - admission.startMillis);
+        onResponse(admission);
+    }
+
+    // The RIC did not respond within the timeout, it would have taken at least that long
+    private synchronized void onTimeout(long timeout) {
+        recordLatency(timeout);
+    }
+
+    // The RIC has responded to the request
+    private void onResponse(Admission admission) {
+        if (admission.generation != generation) {
+            return; // The request was let through before the breaker last opened
+        }
+        if (admission.isTrial) {
+            logger.info("Circuit breaker for ric: {} is closed", ricId);
+            state = State.CLOSED;
+            isTrialOngoing = false;
+        }
+        consecutiveFailures = 0;
+    }
+
+    private synchronized void onError(Admission admission, Throwable throwable) {
+        if (!isRicFailure(throwable)) {
+            onResponse(admission);
+            return;
+        }
+        if (admission.generation != generation) {
+            return;
+        }
+        consecutiveFailures++;
+        if (admission.isTrial) {
+            isTrialOngoing = false;
+        }
+        if (settings.isCircuitBreaker()
+                && (admission.isTrial || consecutiveFailures >= settings.getCircuitBreakerFailureThreshold())) {
+            logger.warn("Circuit breaker for ric: {} is open, {}", ricId, throwable.getMessage());
+            state = State.OPEN;
+            openedAtMillis = now();
+            generation++;
+        }
+    }
+
+    private synchronized void onCancel(Admission admission) {
+        if (admission.isTrial && admission.generation == generation) {
+            isTrialOngoing = false;
+        }
+    }
+
+    private void recordLatency(long latencyMillis) {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        latencies[noOfLatencies % LATENCY_WINDOW] = latencyMillis;
+        noOfLatencies++;
+        if (settings.isAdaptiveTimeout() && noOfLatencies % TIMEOUT_UPDATE_INTERVAL == 0) {
+            long[] window = Arrays.copyOf(latencies, Math.min(noOfLatencies, LATENCY_WINDOW));
+            Arrays.sort(window);
+            long percentile = window[(int) Math.ceil(TIMEOUT_PERCENTILE * window.length) - 1];
+            long timeout = Math.max(settings.getAdaptiveTimeoutMin().toMillis(), percentile * TIMEOUT_MULTIPLIER);
+            timeoutMillis = maxTimeoutMillis > 0 ? Math.min(maxTimeoutMillis, timeout) : timeout;
+        }
+    }
+
+    private static boolean isRicFailure(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+
+    private WebClientResponseException circuitOpen(long retryAfterMillis) {
+        HttpHeaders headers = new HttpHeaders();
+        long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+        headers.add(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return error(HttpStatus.SERVICE_UNAVAILABLE, headers,
+                "Circuit breaker open for ric: " + ricId + ", retry after " + retryAfterSeconds + " s");
+    }
+
+    private WebClientResponseException timedOut(long timeout) {
+        return error(HttpStatus.GATEWAY_TIMEOUT, null,
+                "No response from ric: " + ricId + " within " + timeout + " ms");
+    }
+
+    private static WebClientResponseException error(HttpStatus status, HttpHeaders headers, String message) {
+        return new WebClientResponseException(status.value(), status.getReasonPhrase(), headers,
+                message.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the registered gauges, empty if metrics are disabled
+     */
+    static List<Meter> registerMetrics(MeterRegistry registry, String ricId, MetricsSettings metricsSettings) {
+        if (!metricsSettings.isEnabled()) {
+            return List.of();
+        }
+        String ricTag = metricsSettings.isRicTag() ? ricId : A1ClientMetrics.ALL_RICS;
+        Gauge state = Gauge.builder(STATE_METRIC, () -> max(ricTag, breaker -> breaker.getState().ordinal())) //
+                .description("State of the circuit breaker for a Near-RT RIC, 0: closed, 1: half open, 2: open") //
+                .tag("ric", ricTag) //
+                .register(registry);
+        Gauge timeout =
+                Gauge.builder(TIMEOUT_METRIC, () -> max(ricTag, breaker -> breaker.getTimeoutMillis() / 1000.0)) //
+                        .description("Timeout for requests to a Near-RT RIC, 0 if there is none") //
+                        .tag("ric", ricTag) //
+                        .baseUnit("seconds") //
+                        .register(registry);
+        return List.of(state, timeout);
+    }
+
+    // The value for the RIC, or the highest value of all RICs if the RIC tag is turned off
+    private static double max(String ricTag, ToDoubleFunction<RicCircuitBreaker> value) {
+        return RicState.getCircuitBreakers() //
+                .filter(breaker -> A1ClientMetrics.ALL_RICS.equals(ricTag) || breaker.ricId.equals(ricTag)) //
+                .mapToDouble(value) //
+                .max() //
+                .orElse(0);
+    }
+
+    private static long now() {
+        return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+    }
+}
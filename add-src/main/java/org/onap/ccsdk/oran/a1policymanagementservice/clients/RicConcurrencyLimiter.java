@@ -0,0 +1,210 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Limits the number of parallel requests sent to one Near-RT RIC.
+ *
+ * The limit is either fixed or, in adaptive mode, adjusted using additive increase/multiplicative decrease
+ * (AIMD). The limit is raised by one for each round of requests that are answered within the latency target
+ * while the limit is used, and is reduced when the RIC responds slowly or with errors.
+ *
+ * There is one limiter per RIC, kept in the {@link RicState} of the RIC.
+ */
+class RicConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final double SLOW_RESPONSE_DECREASE = 0.9;
+    private static final double ERROR_DECREASE = 0.5;
+
+    private enum Outcome {
+        SUCCESS, ERROR, CANCELLED
+    }
+
+    private static final class Permit {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private boolean granted = false; // Guarded by the limiter
+        private boolean isLimitReached = false; // If the limit was used when the permit was granted
+        private long startTime;
+
+        Permit(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        void deliver() {
+            this.startTime = System.nanoTime();
+            sink.success(this);
+        }
+    }
+
+    private final String ricId;
+    private final Queue<Permit> waiting = new ArrayDeque<>();
+    private int minLimit;
+    private int maxLimit;
+    private long latencyTargetNanos;
+    private double limit;
+    private int inFlight = 0;
+
+    RicConcurrencyLimiter(String ricId, RicSettings settings) {
+        this.ricId = ricId;
+        applySettings(settings);
+        this.limit = minLimit;
+    }
+
+    /**
+     * Applies changed settings. The ongoing and waiting requests are kept, and the current limit is moved within
+     * the new bounds.
+     */
+    void update(RicSettings settings) {
+        List<Permit> granted;
+        synchronized (this) {
+            applySettings(settings);
+            limit = Math.max(minLimit, Math.min(maxLimit, limit));
+            granted = grantWaiting();
+        }
+        granted.forEach(Permit::deliver);
+    }
+
+    private void applySettings(RicSettings settings) {
+        this.minLimit = Math.max(1, settings.getConcurrency());
+        this.maxLimit = settings.isAdaptiveConcurrency() ? Math.max(minLimit, settings.getMaxConcurrency()) : minLimit;
+        this.latencyTargetNanos = settings.getLatencyTarget().toNanos();
+    }
+
+    /**
+     * Executes a request when the number of outstanding requests to the RIC is below the limit.
+     *
+     * @param request the request, which is subscribed to when it is allowed to execute
+     * @return the result of the request
+     */
+    <T> Mono<T> execute(Mono<T> request) {
+        return Mono.usingWhen(acquire(), //
+                permit -> request, //
+                permit -> release(permit, Outcome.SUCCESS), //
+                (permit, throwable) -> release(permit, Outcome.ERROR), //
+                permit -> release(permit, Outcome.CANCELLED));
+    }
+
+    /**
+     * @return the highest number of parallel requests that this limiter will allow
+     */
+    synchronized int getMaxLimit() {
+        return maxLimit;
+    }
+
+    synchronized int getCurrentLimit() {
+        return (int) limit;
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Permit permit = new Permit(sink);
+            sink.onCancel(() -> cancel(permit));
+            boolean isGranted;
+            synchronized (this) {
+                isGranted = waiting.isEmpty() && tryGrant(permit);
+                if (!isGranted) {
+                    waiting.add(permit);
+                }
+            }
+            if (isGranted) {
+                permit.deliver();
+            }
+        });
+    }
+
+    private boolean tryGrant(Permit permit) {
+        if (inFlight < getCurrentLimit()) {
+            permit.isLimitReached = inFlight >= getCurrentLimit() - 1;
+            inFlight++;
+            permit.granted = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void cancel(Permit permit) {
+        boolean isGranted;
+        synchronized (this) {
+            waiting.remove(permit);
+            isGranted = permit.granted;
+        }
+        if (isGranted) {
+            release(permit, Outcome.CANCELLED).subscribe();
+        }
+    }
+
+    private Mono<Void> release(Permit permit, Outcome outcome) {
+        return Mono.fromRunnable(() -> {
+            if (!permit.released.compareAndSet(false, true)) {
+                return;
+            }
+            List<Permit> granted;
+            synchronized (this) {
+                inFlight--;
+                adjustLimit(permit, outcome);
+                granted = grantWaiting();
+            }
+            granted.forEach(Permit::deliver);
+        });
+    }
+
+    private List<Permit> grantWaiting() {
+        List<Permit> granted = new ArrayList<>();
+        while (!waiting.isEmpty() && tryGrant(waiting.peek())) {
+            granted.add(waiting.poll());
+        }
+        return granted;
+    }
+
+    private void adjustLimit(Permit permit, Outcome outcome) {
+        if (minLimit == maxLimit || outcome == Outcome.CANCELLED) {
+            return;
+        }
+        final int oldLimit = getCurrentLimit();
+        if (outcome == Outcome.ERROR) {
+            limit = Math.max(minLimit, limit * ERROR_DECREASE);
+        } else if (System.nanoTime() - permit.startTime > latencyTargetNanos) {
+            limit = Math.max(minLimit, limit * SLOW_RESPONSE_DECREASE);
+        } else if (permit.isLimitReached) {
+            // A fast response says nothing about a higher limit unless the current one is used
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        if (oldLimit != getCurrentLimit()) {
+            logger.debug("Concurrency limit for ric: {} changed from {} to {}", ricId, oldLimit, getCurrentLimit());
+        }
+    }
+}
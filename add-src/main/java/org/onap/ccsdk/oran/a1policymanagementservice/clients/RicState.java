@@ -0,0 +1,182 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The state that the A1 clients of one Near-RT RIC share: the concurrency limiter, the policy status cache, the
+ * bulk delete support and the circuit breaker. A client is created for each request to the RIC, while this state
+ * lives as long as the RIC.
+ *
+ * A change of the settings of the RIC is applied to the existing state, so ongoing requests, cached statuses and
+ * an open circuit breaker are kept. The state is dropped when the RIC is removed, or when it has not been used for
+ * the configured idle timeout.
+ */
+public final class RicState {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final long EXPIRY_CHECK_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Map<String, RicState> states = new ConcurrentHashMap<>();
+    private static final AtomicLong nextExpiryCheckMillis = new AtomicLong();
+
+    private final String ricId;
+    private final RicConcurrencyLimiter concurrencyLimiter;
+    private final PolicyStatusCache statusCache;
+    private final RicBulkDelete bulkDelete;
+    private final RicCircuitBreaker circuitBreaker;
+    private RicSettings settings;
+    private List<Meter> meters = List.of(); // The gauges of the circuit breaker
+    private volatile long lastUsedMillis;
+
+    private RicState(String ricId, RicSettings settings) {
+        this.ricId = ricId;
+        this.settings = settings;
+        this.concurrencyLimiter = new RicConcurrencyLimiter(ricId, settings);
+        this.statusCache = new PolicyStatusCache(ricId, settings);
+        this.bulkDelete = new RicBulkDelete(ricId, settings);
+        this.circuitBreaker = new RicCircuitBreaker(ricId, settings);
+        this.lastUsedMillis = now();
+        registerMetrics();
+    }
+
+    /**
+     * Gets the state of a RIC, which is created if there is none.
+     *
+     * @param ricId the RIC
+     * @param settings the current settings of the RIC, applied to the state if they are changed
+     * @return the state of the RIC
+     */
+    static RicState get(String ricId, RicSettings settings) {
+        removeIdle();
+        RicState state = states.computeIfAbsent(ricId, id -> new RicState(id, settings));
+        state.use(settings);
+        return state;
+    }
+
+    /**
+     * Drops the state of a RIC, which shall be done when the RIC is removed from the configuration.
+     */
+    public static void remove(String ricId) {
+        RicState state = states.remove(ricId);
+        if (state != null) {
+            logger.debug("Removed the client state of ric: {}", ricId);
+            state.close();
+        }
+    }
+
+    static void clear() {
+        states.clear();
+        nextExpiryCheckMillis.set(0);
+    }
+
+    static Stream<RicCircuitBreaker> getCircuitBreakers() {
+        return states.values().stream().map(RicState::getCircuitBreaker);
+    }
+
+    RicConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    PolicyStatusCache getStatusCache() {
+        return statusCache;
+    }
+
+    RicBulkDelete getBulkDelete() {
+        return bulkDelete;
+    }
+
+    RicCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private synchronized void use(RicSettings settings) {
+        lastUsedMillis = now();
+        if (settings.equals(this.settings)) {
+            return;
+        }
+        logger.debug("Settings changed for ric: {}, {}", ricId, settings);
+        this.settings = settings;
+        concurrencyLimiter.update(settings);
+        statusCache.update(settings);
+        bulkDelete.update(settings);
+        circuitBreaker.update(settings);
+        registerMetrics();
+    }
+
+    // Releases what the state holds outside of itself
+    private synchronized void close() {
+        statusCache.close();
+        // The gauges aggregated for all RICs are kept, they only read the states of the remaining RICs
+        meters.stream() //
+                .filter(meter -> ricId.equals(meter.getId().getTag("ric"))) //
+                .forEach(Metrics.globalRegistry::remove);
+    }
+
+    private void registerMetrics() {
+        if (meters.isEmpty() && circuitBreaker.isEnabled()) {
+            meters = RicCircuitBreaker.registerMetrics(Metrics.globalRegistry, ricId,
+                    A1MediatorAdapterConfig.getCurrent().getMetrics());
+        }
+    }
+
+    // Drops the states that have not been used for the idle timeout, checked at most once per minute
+    private static void removeIdle() {
+        long nowMillis = now();
+        long nextCheckMillis = nextExpiryCheckMillis.get();
+        if (nowMillis < nextCheckMillis
+                || !nextExpiryCheckMillis.compareAndSet(nextCheckMillis, nowMillis + EXPIRY_CHECK_INTERVAL_MILLIS)) {
+            return;
+        }
+        Duration idleTimeout = A1MediatorAdapterConfig.getCurrent().getRicStateIdleTimeout();
+        if (idleTimeout.isZero()) {
+            return;
+        }
+        states.values().forEach(state -> {
+            if (nowMillis - state.lastUsedMillis >= idleTimeout.toMillis() && states.remove(state.ricId, state)) {
+                logger.debug("Removed the client state of idle ric: {}", state.ricId);
+                state.close();
+            }
+        });
+    }
+
+    private static long now() {
+        return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,49 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import lombok.Value;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A1 client for Near-RT RICs with many policies. The policies are streamed instead of collected into one list,
+ * which makes it possible to process them incrementally.
+ */
+public interface StreamingA1Client extends A1Client {
+
+    /**
+     * The identity of a policy instance in a Near-RT RIC.
+     */
+    @Value
+    public static class PolicyId {
+        String typeId;
+        String policyId;
+    }
+
+    /**
+     * Streams the identities of all policies in the Near-RT RIC. The policies of a bounded number of policy types
+     * are listed in parallel.
+     *
+     * @return the identities of the policies, together with the policy type of each policy
+     */
+    public Flux<PolicyId> streamPolicyIdentities();
+}
@@ -0,0 +1,219 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning of the A1 Mediator adapters (A1MediatorAdapterI and A1MediatorAdapterICCSDK).
+ *
+ * The settings in 'ric-defaults' apply to all Near-RT RICs and can be overridden for individual RICs in
+ * 'rics', keyed by the RIC name used in application_configuration.json. In the same way, the settings in
+ * 'controller-defaults' can be overridden for individual A1 controllers in 'controllers'. An override only
+ * needs to contain the settings that differ, the rest are taken from the defaults.
+ *
+ * The adapters are instantiated by reflection (see customAdapterClass in application_configuration.json),
+ * so the bound configuration is also made available through {@link #getCurrent()}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.a1-mediator-adapter")
+public class A1MediatorAdapterConfig {
+
+    private static A1MediatorAdapterConfig current = new A1MediatorAdapterConfig();
+
+    public enum BulkDeleteMode {
+        // The policies are always deleted one by one
+        NONE,
+        // The policies of a type are deleted with one DELETE of the policy collection of the type
+        PER_TYPE,
+        // As PER_TYPE, but if the RIC does not support it, it is not tried again
+        AUTO
+    }
+
+    @Data
+    public static class RicSettings {
+        // How many parallel requests that is sent to one NearRT RIC. In adaptive mode, this is the lower bound.
+        private int concurrency = 1;
+        // If true, the concurrency is raised while the latency and error rate of the RIC stays healthy
+        private boolean adaptiveConcurrency = false;
+        // Upper bound of the concurrency in adaptive mode
+        private int maxConcurrency = 16;
+        // Responses slower than this are regarded as a sign of overload in adaptive mode
+        private Duration latencyTarget = Duration.ofMillis(500);
+        // How many policy types that are listed in parallel when all policy identities are fetched
+        private int listingConcurrency = 4;
+        // How long a fetched policy type schema is used without fetching it again from the RIC, zero to always fetch
+        private Duration schemaCacheTtl = Duration.ZERO;
+        // How long a fetched policy status is reused, zero to always fetch (concurrent requests are still merged)
+        private Duration statusCacheTtl = Duration.ZERO;
+        // If true, an older status is returned at once while it is refreshed in the background
+        private boolean statusServeStale = false;
+        // Max number of policy status requests per second sent to the RIC, zero for no limit
+        private double statusRateLimit = 0;
+        // Number of status requests that may be sent in a burst when the rate is limited
+        private int statusRateBurst = 10;
+        // A status request that would be delayed longer than this by the rate limit fails at once
+        private Duration statusRateMaxWait = Duration.ofSeconds(5);
+        // How all policies in the RIC are deleted when the RIC is synchronized
+        private BulkDeleteMode bulkDelete = BulkDeleteMode.NONE;
+        // In mode AUTO, how long the policies are deleted one by one after the RIC has rejected a bulk delete
+        private Duration bulkDeleteReprobeInterval = Duration.ofHours(1);
+        // If true, requests to the RIC fail at once after a number of failed requests in a row
+        private boolean circuitBreaker = false;
+        // Number of failed requests in a row that opens the circuit breaker
+        private int circuitBreakerFailureThreshold = 5;
+        // How long the circuit breaker stays open before a trial request is let through
+        private Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+        // Timeout for requests to the RIC, zero for none. In adaptive mode, this is the upper bound.
+        private Duration requestTimeout = Duration.ZERO;
+        // If true, the timeout follows the observed latency of the RIC (a multiple of the 99th percentile)
+        private boolean adaptiveTimeout = false;
+        // Lower bound of the timeout in adaptive mode
+        private Duration adaptiveTimeoutMin = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class ControllerSettings {
+        // If true, requests to the controller are grouped into one multi-request RPC (batchRpcName)
+        private boolean batchEnabled = false;
+        // A batch is sent when it contains this many requests
+        private int batchMaxSize = 50;
+        // or when the first request in the batch has waited this long
+        private Duration batchWindow = Duration.ofMillis(10);
+        // The controller RPC that executes a batch of requests
+        private String batchRpcName = "batchA1Policy";
+        // If true, all RICs behind the controller share one REST client (and connection pool) to it
+        private boolean sharedRestClient = true;
+    }
+
+    @Data
+    public static class MetricsSettings {
+        // If false, no metrics are recorded for the requests to the RICs
+        private boolean enabled = true;
+        // If false, the RIC ID is not used as tag and the metrics for all RICs are aggregated
+        private boolean ricTag = true;
+        // The buckets of the request latency histogram
+        private List<Duration> histogramBuckets = List.of(Duration.ofMillis(50), Duration.ofMillis(100),
+                Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500),
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+        // If true, Micrometer's percentile histogram (many more buckets) is published as well
+        private boolean percentileHistogram = false;
+    }
+
+    @Getter
+    @Setter
+    private MetricsSettings metrics = new MetricsSettings();
+
+    // Max number of distinct policy type schemas that are cached, shared by all RICs
+    @Getter
+    @Setter
+    private long schemaCacheMaxSize = 1000;
+
+    // The client state of a RIC (limiter, status cache, circuit breaker) is dropped after it has not been used
+    // this long, zero to keep it until the RIC is removed
+    @Getter
+    @Setter
+    private Duration ricStateIdleTimeout = Duration.ofHours(1);
+
+    @Getter
+    @Setter
+    private RicSettings ricDefaults = new RicSettings();
+
+    @Getter
+    @Setter
+    private Map<String, Map<String, String>> rics = new HashMap<>();
+
+    @Getter
+    @Setter
+    private ControllerSettings controllerDefaults = new ControllerSettings();
+
+    @Getter
+    @Setter
+    private Map<String, Map<String, String>> controllers = new HashMap<>();
+
+    // The overrides merged with the defaults
+    private final Map<String, RicSettings> ricSettings = new ConcurrentHashMap<>();
+    private final Map<String, ControllerSettings> controllerSettings = new ConcurrentHashMap<>();
+
+    public RicSettings getRicSettings(String ricId) {
+        Map<String, String> overrides = rics.get(ricId);
+        if (overrides == null) {
+            return ricDefaults;
+        }
+        return ricSettings.computeIfAbsent(ricId,
+                id -> merge(ricDefaults, overrides, RicSettings.class));
+    }
+
+    public ControllerSettings getControllerSettings(String controllerName) {
+        Map<String, String> overrides = controllers.get(controllerName);
+        if (overrides == null) {
+            return controllerDefaults;
+        }
+        return controllerSettings.computeIfAbsent(controllerName,
+                name -> merge(controllerDefaults, overrides, ControllerSettings.class));
+    }
+
+    /**
+     * Binds the given overrides onto a copy of the defaults, so the settings that are not overridden keep the
+     * values from the defaults. The overrides are bound with the same relaxed rules as the rest of the
+     * configuration.
+     */
+    private static <T> T merge(T defaults, Map<String, String> overrides, Class<T> type) {
+        T settings = BeanUtils.instantiateClass(type);
+        BeanUtils.copyProperties(defaults, settings);
+        Map<String, String> source = new HashMap<>();
+        overrides.forEach((key, value) -> source.put("override." + key, value));
+        new Binder(new MapConfigurationPropertySource(source)).bind("override", Bindable.ofInstance(settings));
+        return settings;
+    }
+
+    @PostConstruct
+    void activate() {
+        ricSettings.clear();
+        controllerSettings.clear();
+        setCurrent(this);
+    }
+
+    public static A1MediatorAdapterConfig getCurrent() {
+        return current;
+    }
+
+    public static void setCurrent(A1MediatorAdapterConfig config) {
+        current = config;
+    }
+}
@@ -0,0 +1,100 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
+
+class A1AdapterOutputDecoderTest {
+
+    @Test
+    @DisplayName("test Decode Output")
+    void decodeOutput() throws IOException {
+        String body = "{\"title\":\"type1\",\"values\":[1,2]}";
+        String response = A1AdapterJsonHelper.createOutputJsonString(new AdapterOutput(200, body));
+
+        AdapterOutput output = A1AdapterOutputDecoder.decode(response);
+
+        assertEquals(200, output.getHttpStatus());
+        assertEquals(body, output.getBody());
+    }
+
+    @Test
+    @DisplayName("test Decode Output Without Body")
+    void decodeOutputWithoutBody() throws IOException {
+        AdapterOutput output = A1AdapterOutputDecoder
+                .decode("{\"other\":{\"a\":[1]},\"output\":{\"http-status\":404,\"body\":null,\"x\":{}}}");
+
+        assertEquals(404, output.getHttpStatus());
+        assertNull(output.getBody());
+    }
+
+    @Test
+    @DisplayName("test Decode Output With Embedded Json Body")
+    void decodeOutputWithEmbeddedJsonBody() throws IOException {
+        AdapterOutput output =
+                A1AdapterOutputDecoder.decode("{\"output\":{\"body\":[\"a\",\"b\"],\"http-status\":200}}");
+
+        assertEquals(200, output.getHttpStatus());
+        assertEquals("[\"a\",\"b\"]", output.getBody());
+    }
+
+    @Test
+    @DisplayName("test Decode Batch Output With Embedded Json Body")
+    void decodeBatchOutputWithEmbeddedJsonBody() throws IOException {
+        List<AdapterOutput> outputs = A1AdapterOutputDecoder.decodeBatch("{\"output\":{\"responses\":[" //
+                + "{\"http-status\":200,\"body\":{\"status\":\"ENFORCED\"}}," //
+                + "{\"http-status\":404,\"body\":\"Not found\"}]}}");
+
+        assertEquals(2, outputs.size());
+        assertEquals(200, outputs.get(0).getHttpStatus());
+        assertEquals("{\"status\":\"ENFORCED\"}", outputs.get(0).getBody());
+        assertEquals(404, outputs.get(1).getHttpStatus());
+        assertEquals("Not found", outputs.get(1).getBody());
+    }
+
+    @Test
+    @DisplayName("test Decode Batch Response Without Responses")
+    void decodeBatchResponseWithoutResponses() {
+        assertThrows(JSONException.class, () -> A1AdapterOutputDecoder.decodeBatch("{\"output\":{}}"));
+    }
+
+    @Test
+    @DisplayName("test Decode Response Without Output")
+    void decodeResponseWithoutOutput() {
+        assertThrows(JSONException.class, () -> A1AdapterOutputDecoder.decode("{\"input\":{}}"));
+    }
+
+    @Test
+    @DisplayName("test Decode Malformed Response")
+    void decodeMalformedResponse() {
+        assertThrows(IOException.class, () -> A1AdapterOutputDecoder.decode("{\"output\":{\"http-status\":"));
+    }
+}
@@ -0,0 +1,100 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.MetricsSettings;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class A1ClientMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("test Requests Are Timed Per Operation And Outcome")
+    void requestsAreTimed() {
+        A1ClientMetrics metrics = new A1ClientMetrics(registry, new MetricsSettings(), A1MediatorAdapterI.class,
+                "ric1", null);
+
+        metrics.record("putPolicy", Mono.just("OK")).block();
+        metrics.record("putPolicy", Mono.just("OK")).block();
+        metrics.record("putPolicy", Mono.error(notFound())).onErrorResume(t -> Mono.empty()).block();
+        metrics.record("deleteAllPolicies", Flux.just("p1", "p2")).blockLast();
+
+        assertEquals(2, count("putPolicy", A1ClientMetrics.SUCCESS));
+        assertEquals(1, count("putPolicy", A1ClientMetrics.CLIENT_ERROR));
+        assertEquals(1, count("deleteAllPolicies", A1ClientMetrics.SUCCESS));
+    }
+
+    @Test
+    @DisplayName("test Ongoing Requests Are Counted Per Ric And Controller")
+    void ongoingRequestsAreCounted() {
+        A1ClientMetrics metrics = new A1ClientMetrics(registry, new MetricsSettings(),
+                A1MediatorAdapterICCSDK.class, "ric1", "controller1");
+
+        Disposable request = metrics.record("getPolicyStatus", Mono.never()).subscribe();
+        assertEquals(1, registry.get(A1ClientMetrics.ACTIVE_REQUESTS).tag("ric", "ric1").gauge().value());
+        assertEquals(1, registry.get(A1ClientMetrics.ACTIVE_CONTROLLER_REQUESTS).tag("controller", "controller1")
+                .gauge().value());
+
+        request.dispose();
+        assertEquals(0, registry.get(A1ClientMetrics.ACTIVE_REQUESTS).gauge().value());
+        assertEquals(0, registry.get(A1ClientMetrics.ACTIVE_CONTROLLER_REQUESTS).gauge().value());
+        assertEquals(1, count("getPolicyStatus", A1ClientMetrics.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("test Ric Tag Can Be Disabled")
+    void ricTagCanBeDisabled() {
+        MetricsSettings settings = new MetricsSettings();
+        settings.setRicTag(false);
+        A1ClientMetrics metrics = new A1ClientMetrics(registry, settings, A1MediatorAdapterI.class, "ric1", null);
+
+        metrics.record("putPolicy", Mono.just("OK")).block();
+
+        assertEquals(1, registry.get(A1ClientMetrics.REQUESTS).tag("ric", "all").timer().count());
+        assertNull(registry.find(A1ClientMetrics.REQUESTS).tag("ric", "ric1").timer());
+    }
+
+    private long count(String operation, String outcome) {
+        return registry.get(A1ClientMetrics.REQUESTS) //
+                .tag("operation", operation) //
+                .tag("outcome", outcome) //
+                .timer() //
+                .count();
+    }
+
+    private static WebClientResponseException notFound() {
+        return new WebClientResponseException(404, "Not Found", null, "".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8, null);
+    }
+}
@@ -23,6 +23,10 @@ package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,10 +37,13 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Vector;
 
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,6 +53,8 @@ import org.mockito.stubbing.OngoingStubbing;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterRequest;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.StreamingA1Client.PolicyId;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
@@ -53,6 +62,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -65,6 +75,7 @@ class A1MediatorAdapterICCSDKTest {
     private static final String PUT_A1_URL = "/A1-ADAPTER-API:putA1Policy";
     private static final String DELETE_A1_URL = "/A1-ADAPTER-API:deleteA1Policy";
     private static final String GET_A1_POLICY_STATUS_URL = "/A1-ADAPTER-API:getA1PolicyStatus";
+    private static final String BATCH_A1_POLICY_URL = "/A1-ADAPTER-API:batchA1Policy";
     private static final String POLICY_TYPE_1_ID = "type1";
     private static final String POLICY_1_ID = "policy1";
     private static final String POLICY_JSON_VALID = "{\"scope\":{\"ueId\":\"ue1\"}}";
@@ -92,6 +103,20 @@ class A1MediatorAdapterICCSDKTest {
         });
     }
 
+    @Test
+    @DisplayName("test Rics Behind One Controller Share Rest Client")
+    void ricsBehindOneControllerShareRestClient() {
+        ControllerRestClients.clear();
+        AsyncRestClientFactory restClientFactory = mock(AsyncRestClientFactory.class);
+        when(restClientFactory.createRestClientNoHttpProxy("baseUrl/rests/operations")).thenReturn(asyncRestClientMock);
+
+        new A1MediatorAdapterICCSDK(createRic("Ric1Url").getConfig(), restClientFactory);
+        new A1MediatorAdapterICCSDK(createRic("Ric2Url").getConfig(), restClientFactory);
+
+        verify(restClientFactory, times(1)).createRestClientNoHttpProxy(anyString());
+        ControllerRestClients.clear();
+    }
+
     private Ric createRic(String url) {
         RicConfig cfg = RicConfig.builder().ricId("ric") //
                 .baseUrl(url) //
@@ -160,6 +185,16 @@ class A1MediatorAdapterICCSDKTest {
                 "test_osc_get_schema_response.json");
     }
 
+    @Test
+    @DisplayName("test encode Input Gives Same Result As Json Helper")
+    void encodeInput() {
+        String body = "{\"text\":\"a \\\"quoted\\\" </tag>\\n\u2028\u0085\t \\\\ \u00e9\"}";
+        assertEquals(A1AdapterJsonHelper.createInputJsonString(new AdapterRequest(RIC_1_URL, body)),
+                A1MediatorAdapterICCSDK.encodeInput(RIC_1_URL, body));
+        assertEquals(A1AdapterJsonHelper.createInputJsonString(new AdapterRequest(RIC_1_URL, null)),
+                A1MediatorAdapterICCSDK.encodeInput(RIC_1_URL, null));
+    }
+
     @Test
     @DisplayName("test parse Json Array Of String")
     void parseJsonArrayOfString() {
@@ -199,6 +234,25 @@ class A1MediatorAdapterICCSDKTest {
         getPolicyIdentities(A1ProtocolType.CUSTOM_PROTOCOL, expUrlPolicies, expUrlInstances);
     }
 
+    @Test
+    @DisplayName("test Stream Policy Identities A1MediatorAdapterICCSDK")
+    void streamPolicyIdentities() {
+        clientUnderTest = new A1MediatorAdapterICCSDK(A1ProtocolType.CUSTOM_PROTOCOL, //
+                createRic(RIC_1_URL).getConfig(), //
+                asyncRestClientMock);
+        whenAsyncPostThenReturn(Mono.just(createOkResponseWithBody(Arrays.asList(POLICY_TYPE_1_ID)))) //
+                .thenReturn(Mono.just(createOkResponseWithBody(Arrays.asList(POLICY_1_ID))));
+
+        StepVerifier.create(clientUnderTest.streamPolicyIdentities()) //
+                .expectNext(new PolicyId(POLICY_TYPE_1_ID, POLICY_1_ID)) //
+                .verifyComplete();
+
+        String expUrl = RIC_1_URL + "/A1-P/v2/policytypes/" + POLICY_TYPE_1_ID + "/policies";
+        String expInput = A1AdapterJsonHelper.createInputJsonString(new AdapterRequest(expUrl, null));
+        verify(asyncRestClientMock).postWithAuthHeader(GET_A1_POLICY_URL, expInput, CONTROLLER_USERNAME,
+                CONTROLLER_PASSWORD);
+    }
+
     private void putPolicy(A1ProtocolType protocolType, String expUrl) {
         clientUnderTest = new A1MediatorAdapterICCSDK(protocolType, //
                 createRic(RIC_1_URL).getConfig(), //
@@ -274,6 +328,85 @@ class A1MediatorAdapterICCSDKTest {
         deleteAllPolicies(A1ProtocolType.CUSTOM_PROTOCOL, expUrl1);
     }
 
+    @Test
+    @DisplayName("test Put Policies Batched")
+    void putPoliciesBatched() {
+        A1MediatorAdapterConfig adapterConfig = new A1MediatorAdapterConfig();
+        adapterConfig.getControllerDefaults().setBatchEnabled(true);
+        adapterConfig.getControllerDefaults().setBatchMaxSize(10);
+        clientUnderTest = new A1MediatorAdapterICCSDK(A1ProtocolType.CUSTOM_PROTOCOL, //
+                createRic(RIC_1_URL).getConfig(), //
+                asyncRestClientMock, adapterConfig);
+        when(asyncRestClientMock.postWithAuthHeader(anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.just(createOkBatchResponse(invocation.getArgument(1))));
+
+        final int noOfPolicies = 20;
+        List<String> returned = Flux.range(0, noOfPolicies) //
+                .flatMap(i -> clientUnderTest.putPolicy(
+                        A1ClientHelper.createPolicy(RIC_1_URL, "policy" + i, POLICY_JSON_VALID, POLICY_TYPE_1_ID))) //
+                .collectList() //
+                .block();
+
+        // 20 requests in 2 round trips to the controller
+        assertEquals(noOfPolicies, returned.size());
+        assertEquals("OK", returned.get(0));
+        verify(asyncRestClientMock, times(2)).postWithAuthHeader(eq(BATCH_A1_POLICY_URL), anyString(),
+                eq(CONTROLLER_USERNAME), eq(CONTROLLER_PASSWORD));
+    }
+
+    @Test
+    @DisplayName("test Cancelled Batched Request Is Not Sent")
+    void cancelledBatchedRequestIsNotSent() {
+        A1MediatorAdapterConfig adapterConfig = new A1MediatorAdapterConfig();
+        adapterConfig.getControllerDefaults().setBatchEnabled(true);
+        adapterConfig.getControllerDefaults().setBatchWindow(Duration.ofMillis(50));
+        clientUnderTest = new A1MediatorAdapterICCSDK(A1ProtocolType.CUSTOM_PROTOCOL, //
+                createRic(RIC_1_URL).getConfig(), //
+                asyncRestClientMock, adapterConfig);
+        when(asyncRestClientMock.postWithAuthHeader(anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.just(createOkBatchResponse(invocation.getArgument(1))));
+
+        clientUnderTest
+                .putPolicy(A1ClientHelper.createPolicy(RIC_1_URL, POLICY_1_ID, POLICY_JSON_VALID, POLICY_TYPE_1_ID))
+                .subscribe() //
+                .dispose();
+        String returned = clientUnderTest
+                .putPolicy(A1ClientHelper.createPolicy(RIC_1_URL, "policy2", POLICY_JSON_VALID, POLICY_TYPE_1_ID))
+                .block();
+
+        assertEquals("OK", returned);
+        verify(asyncRestClientMock, times(1)).postWithAuthHeader(eq(BATCH_A1_POLICY_URL),
+                argThat(input -> new JSONObject(input).getJSONObject("input").getJSONArray("requests").length() == 1),
+                eq(CONTROLLER_USERNAME), eq(CONTROLLER_PASSWORD));
+    }
+
+    @Test
+    @DisplayName("test Batched Request Rejected")
+    void batchedRequestRejected() {
+        A1MediatorAdapterConfig adapterConfig = new A1MediatorAdapterConfig();
+        adapterConfig.getControllerDefaults().setBatchEnabled(true);
+        clientUnderTest = new A1MediatorAdapterICCSDK(A1ProtocolType.CUSTOM_PROTOCOL, //
+                createRic(RIC_1_URL).getConfig(), //
+                asyncRestClientMock, adapterConfig);
+        JSONObject response = new JSONObject().put("output", new JSONObject().put("responses",
+                new JSONArray().put(new JSONObject().put("http-status", HttpStatus.BAD_REQUEST.value()))));
+        whenAsyncPostThenReturn(Mono.just(response.toString()));
+
+        Mono<String> returnedMono = clientUnderTest
+                .deletePolicy(A1ClientHelper.createPolicy(RIC_1_URL, POLICY_1_ID, POLICY_JSON_VALID, POLICY_TYPE_1_ID));
+
+        StepVerifier.create(returnedMono) //
+                .expectErrorMatches(t -> t instanceof WebClientResponseException) //
+                .verify();
+        JSONObject expInput = new JSONObject().put("input", new JSONObject().put("requests",
+                new JSONArray().put(new JSONObject() //
+                        .put("rpc-name", "deleteA1Policy") //
+                        .put("near-rt-ric-url", RIC_1_URL + "/A1-P/v2/policytypes/type1/policies/policy1"))));
+        verify(asyncRestClientMock).postWithAuthHeader(eq(BATCH_A1_POLICY_URL),
+                argThat(input -> new JSONObject(input).similar(expInput)), eq(CONTROLLER_USERNAME),
+                eq(CONTROLLER_PASSWORD));
+    }
+
     @Test
     @DisplayName("test Get Status")
     void testGetStatus() {
@@ -326,6 +459,15 @@ class A1MediatorAdapterICCSDKTest {
         return A1AdapterJsonHelper.createOutputJsonString(output);
     }
 
+    private String createOkBatchResponse(String batchInput) {
+        int noOfRequests = new JSONObject(batchInput).getJSONObject("input").getJSONArray("requests").length();
+        JSONArray responses = new JSONArray();
+        for (int i = 0; i < noOfRequests; ++i) {
+            responses.put(new JSONObject(gson().toJson(new AdapterOutput(HttpStatus.OK.value(), "OK"))));
+        }
+        return new JSONObject().put("output", new JSONObject().put("responses", responses)).toString();
+    }
+
     private OngoingStubbing<Mono<String>> whenAsyncPostThenReturn(Mono<String> response) {
         return when(asyncRestClientMock.postWithAuthHeader(anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(response);
@@ -22,31 +22,43 @@ package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.Vector;
+import java.util.stream.IntStream;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.StreamingA1Client.PolicyId;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.BulkDeleteMode;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyType;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class A1MediatorAdapterITest {
@@ -67,18 +79,28 @@ class A1MediatorAdapterITest {
     private static final String POLICY_2_ID = "policy2";
     private static final String POLICY_JSON_VALID = "{\"policyId\":\"policy1\"}";
 
+    private static final Duration RIC_RESPONSE_TIME = Duration.ofMillis(100);
+
     A1MediatorAdapterI clientUnderTest;
 
     AsyncRestClient asyncRestClientMock;
 
+    RicConfig ricConfig;
+
     @BeforeEach
     void init() {
-        RicConfig ricConfig = RicConfig.builder() //
+        ricConfig = RicConfig.builder() //
                 .ricId("name") //
                 .baseUrl(RIC_URL) //
                 .build();
         asyncRestClientMock = mock(AsyncRestClient.class);
-        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, new RicSettings());
+    }
+
+    @AfterEach
+    void reset() {
+        RicState.clear();
+        VirtualTimeScheduler.reset();
     }
 
     @Test
@@ -110,6 +132,44 @@ class A1MediatorAdapterITest {
         verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_2_ID + POLICIES);
     }
 
+    @Test
+    @DisplayName("test Stream Policy Identities")
+    void testStreamPolicyIdentities() {
+        Mono<String> policyTypeIdsResp = Mono.just(Arrays.asList(POLICY_TYPE_1_ID, POLICY_TYPE_2_ID).toString());
+        Mono<String> policyIdsType1Resp = Mono.just(Arrays.asList(POLICY_1_ID).toString());
+        Mono<String> policyIdsType2Resp = Mono.just(Arrays.asList(POLICY_2_ID).toString());
+        when(asyncRestClientMock.get(anyString())).thenReturn(policyTypeIdsResp).thenReturn(policyIdsType1Resp)
+                .thenReturn(policyIdsType2Resp);
+
+        Flux<PolicyId> returnedFlux = clientUnderTest.streamPolicyIdentities();
+
+        StepVerifier.create(returnedFlux) //
+                .expectNext(new PolicyId(POLICY_TYPE_1_ID, POLICY_1_ID)) //
+                .expectNext(new PolicyId(POLICY_TYPE_2_ID, POLICY_2_ID)) //
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("test Stream Policy Identities With Bounded Fan Out")
+    void testStreamPolicyIdentitiesWithBoundedFanOut() {
+        List<String> typeIds = IntStream.range(0, 10).mapToObj(i -> "type" + i).toList();
+        when(asyncRestClientMock.get(anyString())).thenReturn(Mono.just(typeIds.toString()))
+                .thenAnswer(invocation -> Mono.delay(RIC_RESPONSE_TIME).thenReturn(List.of(POLICY_1_ID).toString()));
+        RicSettings settings = new RicSettings();
+        settings.setListingConcurrency(2);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, settings);
+
+        // Two policy types are listed at a time
+        StepVerifier.withVirtualTime(() -> clientUnderTest.streamPolicyIdentities()) //
+                .expectSubscription() //
+                .thenAwait(RIC_RESPONSE_TIME) //
+                .expectNextCount(2) //
+                .expectNoEvent(RIC_RESPONSE_TIME.minusMillis(1)) //
+                .thenAwait(RIC_RESPONSE_TIME.multipliedBy(4)) //
+                .expectNextCount(8) //
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("test Get Valid PolicyType")
     void testGetValidPolicyType() throws JSONException  {
@@ -119,10 +179,10 @@ class A1MediatorAdapterITest {
         when(asyncRestClientMock.get(anyString())).thenReturn(policyTypeResp);
 
         Mono<String> returnedMono = clientUnderTest.getPolicyTypeSchema(POLICY_TYPE_1_ID);
-        verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_1_ID);
         String schema = getCreateSchema(policyType, POLICY_TYPE_1_ID);
         StepVerifier.create(returnedMono).expectNext(schema)
             .expectComplete().verifyThenAssertThat().hasNotDroppedErrors();
+        verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_1_ID);
     }
 
     @Test
@@ -134,8 +194,8 @@ class A1MediatorAdapterITest {
         when(asyncRestClientMock.get(anyString())).thenReturn(policyTypeResp);
 
         Mono<String> returnedMono = clientUnderTest.getPolicyTypeSchema(POLICY_TYPE_1_ID);
-        verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_1_ID);
         StepVerifier.create(returnedMono).expectErrorMatches(throwable -> throwable instanceof JSONException).verify();
+        verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_1_ID);
     }
 
     @Test
@@ -146,8 +206,8 @@ class A1MediatorAdapterITest {
         when(asyncRestClientMock.get(anyString())).thenReturn(policyTypeResp);
 
         Mono<String> returnedMono = clientUnderTest.getPolicyTypeSchema(POLICY_TYPE_1_ID);
-        verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_1_ID);
         StepVerifier.create(returnedMono).expectErrorMatches(throwable -> throwable instanceof Exception).verify();
+        verify(asyncRestClientMock).get(POLICYTYPES_URL + POLICY_TYPE_1_ID);
     }
 
     @Test
@@ -196,6 +256,178 @@ class A1MediatorAdapterITest {
         verify(asyncRestClientMock).delete(POLICYTYPES_URL + POLICY_TYPE_2_ID + POLICIES + "/" + POLICY_2_ID);
     }
 
+    @Test
+    @DisplayName("test Delete All Policies One At A Time")
+    void testDeleteAllPoliciesSequentially() {
+        final int noOfPolicies = 10;
+        whenSlowRicWithPolicies(noOfPolicies);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, ricSettings(1));
+
+        // Each delete has to wait for the previous one
+        StepVerifier.withVirtualTime(() -> clientUnderTest.deleteAllPolicies()) //
+                .expectSubscription() //
+                .thenAwait(RIC_RESPONSE_TIME) //
+                .expectNextCount(1) //
+                .expectNoEvent(RIC_RESPONSE_TIME.minusMillis(1)) //
+                .thenAwait(RIC_RESPONSE_TIME.multipliedBy(noOfPolicies)) //
+                .expectNextCount(noOfPolicies - 1L) //
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("test Delete All Policies In Parallel")
+    void testDeleteAllPoliciesInParallel() {
+        final int noOfPolicies = 10;
+        whenSlowRicWithPolicies(noOfPolicies);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, ricSettings(noOfPolicies));
+
+        // All deletes are done within the response time of one
+        StepVerifier.withVirtualTime(() -> clientUnderTest.deleteAllPolicies()) //
+                .expectSubscription() //
+                .thenAwait(RIC_RESPONSE_TIME) //
+                .expectNextCount(noOfPolicies) //
+                .verifyComplete();
+
+        verify(asyncRestClientMock).delete(POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES + "/policy0");
+    }
+
+    @Test
+    @DisplayName("test Delete All Policies With Bulk Delete")
+    void testDeleteAllPoliciesWithBulkDelete() {
+        whenRicWithPolicies(POLICY_1_ID, POLICY_2_ID);
+        when(asyncRestClientMock.delete(anyString())).thenReturn(Mono.just("OK"));
+        RicSettings settings = new RicSettings();
+        settings.setBulkDelete(BulkDeleteMode.PER_TYPE);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, settings);
+
+        StepVerifier.create(clientUnderTest.deleteAllPolicies()).expectNext("OK").verifyComplete();
+        verify(asyncRestClientMock).delete(POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES);
+
+        // A policy that shall be kept, the other is deleted one by one
+        StepVerifier.create(clientUnderTest.deleteAllPolicies(Set.of(POLICY_1_ID))).expectNext("OK").verifyComplete();
+        verify(asyncRestClientMock).delete(POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES + "/" + POLICY_2_ID);
+        verify(asyncRestClientMock, times(2)).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("test Delete All Policies When Bulk Delete Is Not Supported")
+    void testDeleteAllPoliciesWhenBulkDeleteIsNotSupported() {
+        whenRicWithPolicies(POLICY_1_ID, POLICY_2_ID);
+        String bulkDeleteUri = POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES;
+        when(asyncRestClientMock.delete(anyString())).thenAnswer(invocation -> bulkDeleteUri
+                .equals(invocation.getArgument(0)) ? Mono.error(methodNotAllowed()) : Mono.just("OK"));
+        RicSettings settings = new RicSettings();
+        settings.setBulkDelete(BulkDeleteMode.AUTO);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, settings);
+
+        StepVerifier.create(clientUnderTest.deleteAllPolicies()).expectNextCount(2).verifyComplete();
+        StepVerifier.create(clientUnderTest.deleteAllPolicies()).expectNextCount(2).verifyComplete();
+
+        // The bulk delete is only tried once
+        verify(asyncRestClientMock, times(1)).delete(bulkDeleteUri);
+        verify(asyncRestClientMock, times(2)).delete(POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES + "/" + POLICY_1_ID);
+    }
+
+    @Test
+    @DisplayName("test Rejected Bulk Delete Is Tried Again After The Reprobe Interval")
+    void testRejectedBulkDeleteIsTriedAgain() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        whenRicWithPolicies(POLICY_1_ID, POLICY_2_ID);
+        String bulkDeleteUri = POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES;
+        when(asyncRestClientMock.delete(anyString())).thenAnswer(invocation -> bulkDeleteUri
+                .equals(invocation.getArgument(0)) ? Mono.error(badRequest()) : Mono.just("OK"));
+        RicSettings settings = new RicSettings();
+        settings.setBulkDelete(BulkDeleteMode.AUTO);
+        settings.setBulkDeleteReprobeInterval(Duration.ofMinutes(10));
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, settings);
+
+        // A rejected bulk delete makes AUTO fall back to deleting one by one
+        assertEquals(2, clientUnderTest.deleteAllPolicies().count().block());
+        scheduler.advanceTimeBy(Duration.ofMinutes(9));
+        assertEquals(2, clientUnderTest.deleteAllPolicies().count().block());
+        verify(asyncRestClientMock, times(1)).delete(bulkDeleteUri);
+
+        scheduler.advanceTimeBy(Duration.ofMinutes(1));
+        assertEquals(2, clientUnderTest.deleteAllPolicies().count().block());
+        verify(asyncRestClientMock, times(2)).delete(bulkDeleteUri);
+    }
+
+    @Test
+    @DisplayName("test Throttled Bulk Delete Fails And Is Tried Again")
+    void testThrottledBulkDeleteIsTriedAgain() {
+        whenRicWithPolicies(POLICY_1_ID, POLICY_2_ID);
+        String bulkDeleteUri = POLICYTYPES_URL + POLICY_TYPE_1_ID + POLICIES;
+        when(asyncRestClientMock.delete(anyString())).thenAnswer(invocation -> bulkDeleteUri
+                .equals(invocation.getArgument(0)) ? Mono.error(tooManyRequests()) : Mono.just("OK"));
+        RicSettings settings = new RicSettings();
+        settings.setBulkDelete(BulkDeleteMode.AUTO);
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, settings);
+
+        // A 429 says nothing about the support for bulk delete, so it is not remembered
+        StepVerifier.create(clientUnderTest.deleteAllPolicies()) //
+                .expectErrorMatches(throwable -> throwable instanceof WebClientResponseException responseException
+                        && responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) //
+                .verify();
+        assertTrue(RicState.get(ricConfig.getRicId(), settings).getBulkDelete().isEnabled());
+
+        StepVerifier.create(clientUnderTest.deleteAllPolicies()).expectError().verify();
+        verify(asyncRestClientMock, times(2)).delete(bulkDeleteUri);
+        verify(asyncRestClientMock, times(2)).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("test Put Policy To Slow Ric Times Out")
+    void testPutPolicyToSlowRicTimesOut() {
+        when(asyncRestClientMock.put(anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofSeconds(10)).thenReturn("OK"));
+        RicSettings settings = new RicSettings();
+        settings.setRequestTimeout(Duration.ofSeconds(1));
+        clientUnderTest = new A1MediatorAdapterI(ricConfig, asyncRestClientMock, settings);
+        Policy policy = createPolicy(RIC_URL, POLICY_1_ID, POLICY_JSON_VALID, POLICY_TYPE_1_ID);
+
+        StepVerifier.withVirtualTime(() -> clientUnderTest.putPolicy(policy)) //
+                .expectSubscription() //
+                .thenAwait(Duration.ofSeconds(1)) //
+                .expectErrorMatches(throwable -> throwable instanceof WebClientResponseException e
+                        && e.getStatusCode().value() == HttpStatus.GATEWAY_TIMEOUT.value()) //
+                .verify();
+    }
+
+    private void whenRicWithPolicies(String... policyIds) {
+        when(asyncRestClientMock.get(anyString())).thenAnswer(invocation -> POLICYTYPES_IDENTITIES_URL
+                .equals(invocation.getArgument(0)) //
+                        ? Mono.just(Arrays.asList(POLICY_TYPE_1_ID).toString())
+                        : Mono.just(Arrays.asList(policyIds).toString()));
+    }
+
+    private static WebClientResponseException methodNotAllowed() {
+        return new WebClientResponseException(HttpStatus.METHOD_NOT_ALLOWED.value(), "Method Not Allowed", null,
+                null, null);
+    }
+
+    private static WebClientResponseException tooManyRequests() {
+        return new WebClientResponseException(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null,
+                null);
+    }
+
+    private static WebClientResponseException badRequest() {
+        return new WebClientResponseException(HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null);
+    }
+
+    private void whenSlowRicWithPolicies(int noOfPolicies) {
+        List<String> policyIds = IntStream.range(0, noOfPolicies).mapToObj(i -> "policy" + i).toList();
+        when(asyncRestClientMock.get(anyString())).thenReturn(Mono.just(Arrays.asList(POLICY_TYPE_1_ID).toString()))
+                .thenReturn(Mono.just(policyIds.toString()));
+        when(asyncRestClientMock.delete(anyString()))
+                .thenAnswer(invocation -> Mono.delay(RIC_RESPONSE_TIME).thenReturn("OK"));
+    }
+
+    private static RicSettings ricSettings(int concurrency) {
+        RicSettings settings = new RicSettings();
+        settings.setConcurrency(concurrency);
+        return settings;
+    }
+
     private String getCreateSchema(String policyType, String policyTypeId) throws JSONException{
         JSONObject obj = new JSONObject(policyType);
         JSONObject schemaObj = obj.getJSONObject("create_schema");
@@ -0,0 +1,199 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class PolicyStatusCacheTest {
+    private static final String POLICY_TYPE_ID = "type1";
+    private static final String POLICY_ID = "policy1";
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    @DisplayName("test Concurrent Requests Are Merged")
+    void concurrentRequestsAreMerged() {
+        PolicyStatusCache cache = new PolicyStatusCache("ric", new RicSettings());
+        Sinks.One<String> response = Sinks.one();
+
+        Mono<String> first = cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(response.asMono()));
+        Mono<String> second = cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(response.asMono()));
+        StepVerifier.create(Mono.zip(first, second)) //
+                .then(() -> response.tryEmitValue("OK")) //
+                .expectNextMatches(statuses -> statuses.getT1().equals("OK") && statuses.getT2().equals("OK")) //
+                .verifyComplete();
+        assertEquals(1, fetches.get());
+
+        // Without caching, the next request is sent to the RIC
+        cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("OK"))).block();
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("test Status Is Cached Until Invalidated")
+    void statusIsCachedUntilInvalidated() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusCacheTtl(Duration.ofMinutes(1));
+        PolicyStatusCache cache = new PolicyStatusCache("ric", settings);
+
+        assertEquals("status1", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status1"))).block());
+        assertEquals("status1", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status2"))).block());
+        assertEquals(1, fetches.get());
+
+        cache.invalidate(POLICY_TYPE_ID, POLICY_ID);
+        assertEquals("status2", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status2"))).block());
+    }
+
+    @Test
+    @DisplayName("test Cached Statuses Are Dropped When The Ric Is Removed")
+    void statusesAreDroppedWhenRicIsRemoved() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusCacheTtl(Duration.ofMinutes(1));
+        PolicyStatusCache cache = RicState.get("ric", settings).getStatusCache();
+        cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status1"))).block();
+        Sinks.One<String> response = Sinks.one();
+        cache.getStatus(POLICY_TYPE_ID, "policy2", () -> fetch(response.asMono())).subscribe();
+
+        RicState.remove("ric");
+        response.tryEmitValue("status1");
+
+        assertEquals("status2", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status2"))).block());
+        assertEquals("status2", cache.getStatus(POLICY_TYPE_ID, "policy2", () -> fetch(Mono.just("status2"))).block());
+        assertEquals(4, fetches.get());
+    }
+
+    @Test
+    @DisplayName("test Status Fetched Before Invalidation Is Not Cached")
+    void statusFetchedBeforeInvalidationIsNotCached() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusCacheTtl(Duration.ofMinutes(1));
+        PolicyStatusCache cache = new PolicyStatusCache("ric", settings);
+        Sinks.One<String> response = Sinks.one();
+
+        StepVerifier ongoing = StepVerifier.create(cache.getStatus(POLICY_TYPE_ID, POLICY_ID, //
+                () -> fetch(response.asMono()))) //
+                .expectNext("status1") //
+                .expectComplete() //
+                .verifyLater();
+        cache.invalidate(POLICY_TYPE_ID, POLICY_ID);
+
+        // A request after the invalidation is not merged with the ongoing one
+        assertEquals("status2", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status2"))).block());
+        response.tryEmitValue("status1");
+        ongoing.verify();
+
+        // The status fetched before the invalidation does not replace the newer one
+        assertEquals("status2", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status3"))).block());
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("test Status Is Looked Up When Subscribed To")
+    void statusIsLookedUpWhenSubscribed() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusServeStale(true);
+        PolicyStatusCache cache = new PolicyStatusCache("ric", settings);
+        cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status1"))).block();
+
+        Mono<String> status = cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status2")));
+        assertEquals(1, fetches.get());
+
+        assertEquals("status1", status.block());
+        assertEquals("status2", status.block());
+    }
+
+    @Test
+    @DisplayName("test Stale Status Is Returned While Refreshed")
+    void staleStatusIsReturnedWhileRefreshed() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusServeStale(true);
+        PolicyStatusCache cache = new PolicyStatusCache("ric", settings);
+
+        assertEquals("status1", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status1"))).block());
+        assertEquals("status1", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status2"))).block());
+        assertEquals(2, fetches.get());
+        assertEquals("status2", cache.getStatus(POLICY_TYPE_ID, POLICY_ID, () -> fetch(Mono.just("status3"))).block());
+    }
+
+    @Test
+    @DisplayName("test Status Requests Are Rate Limited")
+    void statusRequestsAreRateLimited() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusRateLimit(10);
+        settings.setStatusRateBurst(2);
+
+        StepVerifier.withVirtualTime(() -> {
+            PolicyStatusCache cache = new PolicyStatusCache("ric", settings);
+            return Flux.range(0, 4) //
+                    .flatMap(i -> cache.getStatus(POLICY_TYPE_ID, "policy" + i, () -> fetch(Mono.just("OK"))));
+        }) //
+                .expectSubscription() //
+                .expectNextCount(2) //
+                .expectNoEvent(Duration.ofMillis(99)) //
+                .thenAwait(Duration.ofMillis(1)) //
+                .expectNextCount(1) //
+                .thenAwait(Duration.ofMillis(100)) //
+                .expectNextCount(1) //
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("test Status Request Fails When The Rate Limit Wait Is Too Long")
+    void statusRequestFailsWhenRateLimitWaitIsTooLong() {
+        RicSettings settings = new RicSettings();
+        settings.setStatusRateLimit(10);
+        settings.setStatusRateBurst(1);
+        settings.setStatusRateMaxWait(Duration.ofMillis(150));
+
+        StepVerifier.withVirtualTime(() -> {
+            PolicyStatusCache cache = new PolicyStatusCache("ric", settings);
+            return Flux.range(0, 3) //
+                    .flatMap(i -> cache.getStatus(POLICY_TYPE_ID, "policy" + i, () -> fetch(Mono.just("OK"))) //
+                            .onErrorResume(WebClientResponseException.class,
+                                    e -> Mono.just(Integer.toString(e.getStatusCode().value()))));
+        }) //
+                .expectSubscription() //
+                .expectNext("OK") //
+                .expectNext("429") //
+                .expectNoEvent(Duration.ofMillis(99)) //
+                .thenAwait(Duration.ofMillis(1)) //
+                .expectNext("OK") //
+                .verifyComplete();
+    }
+
+    private Mono<String> fetch(Mono<String> response) {
+        fetches.incrementAndGet();
+        return response;
+    }
+}
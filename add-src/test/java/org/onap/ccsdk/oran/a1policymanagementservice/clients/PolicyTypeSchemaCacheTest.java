@@ -0,0 +1,129 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+class PolicyTypeSchemaCacheTest {
+    private static final String POLICY_TYPE_ID = "type1";
+    private static final String POLICY_TYPE = "{\"create_schema\":{\"type\":\"object\"}}";
+
+    private static class TestClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    private final TestClock clock = new TestClock();
+    private final PolicyTypeSchemaCache cacheUnderTest = new PolicyTypeSchemaCache(10, clock);
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    @DisplayName("test Identical Schemas Are Shared Between Rics")
+    void identicalSchemasAreShared() {
+        String schema1 = getSchema("ric1", Duration.ZERO, POLICY_TYPE);
+        String schema2 = getSchema("ric2", Duration.ZERO, new String(POLICY_TYPE));
+
+        assertSame(schema1, schema2);
+        assertEquals(POLICY_TYPE_ID, new JSONObject(schema1).getString("title"));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("test Schema Is Fetched Again When Changed")
+    void changedSchemaIsExtracted() {
+        getSchema("ric1", Duration.ZERO, POLICY_TYPE);
+        String schema = getSchema("ric1", Duration.ZERO, "{\"create_schema\":{\"type\":\"string\"}}");
+
+        assertEquals("string", new JSONObject(schema).getString("type"));
+    }
+
+    @Test
+    @DisplayName("test Fresh Schema Is Not Fetched")
+    void freshSchemaIsNotFetched() {
+        Duration ttl = Duration.ofMinutes(10);
+        String schema = getSchema("ric1", ttl, POLICY_TYPE);
+
+        clock.advance(Duration.ofMinutes(9));
+        assertSame(schema, getSchema("ric1", ttl, POLICY_TYPE));
+        assertEquals(1, fetches.get());
+
+        // Another RIC with the same type is fetched
+        getSchema("ric2", ttl, POLICY_TYPE);
+        assertEquals(2, fetches.get());
+
+        clock.advance(Duration.ofMinutes(1));
+        getSchema("ric1", ttl, POLICY_TYPE);
+        assertEquals(3, fetches.get());
+    }
+
+    @Test
+    @DisplayName("test Schema Is Looked Up When Subscribed To")
+    void schemaIsLookedUpWhenSubscribed() {
+        Mono<String> schema = cacheUnderTest.getSchema("ric1", POLICY_TYPE_ID, Duration.ZERO, () -> {
+            fetches.incrementAndGet();
+            return Mono.just(POLICY_TYPE);
+        });
+        assertEquals(0, fetches.get());
+
+        schema.block();
+        schema.block();
+        assertEquals(2, fetches.get());
+    }
+
+    private String getSchema(String ricId, Duration ttl, String policyType) {
+        return cacheUnderTest.getSchema(ricId, POLICY_TYPE_ID, ttl, () -> {
+            fetches.incrementAndGet();
+            return Mono.just(policyType);
+        }).block();
+    }
+}
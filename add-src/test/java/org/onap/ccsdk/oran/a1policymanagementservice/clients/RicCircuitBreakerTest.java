@@ -0,0 +1,266 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RicCircuitBreaker.State;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+class RicCircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicInteger sentRequests = new AtomicInteger();
+    private final Mono<String> okRequest = Mono.fromCallable(() -> {
+        sentRequests.incrementAndGet();
+        return "OK";
+    });
+
+    @AfterEach
+    void reset() {
+        VirtualTimeScheduler.reset();
+        RicState.clear();
+    }
+
+    @Test
+    @DisplayName("test Circuit Breaker Opens After Failures In A Row")
+    void opensAfterFailuresInARow() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", circuitBreakerSettings());
+
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+        assertEquals(State.CLOSED, breaker.getState());
+        fail(breaker, HttpStatus.BAD_GATEWAY);
+        assertEquals(State.OPEN, breaker.getState());
+
+        WebClientResponseException error =
+                assertThrows(WebClientResponseException.class, () -> breaker.execute(okRequest).block());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), error.getStatusCode().value());
+        assertEquals("10", error.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(0, sentRequests.get());
+
+        // Half open, the trial request closes the breaker
+        scheduler.advanceTimeBy(OPEN_DURATION);
+        assertEquals("OK", breaker.execute(okRequest).block());
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("test Failed Trial Request Opens The Circuit Breaker Again")
+    void failedTrialRequestOpensAgain() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", circuitBreakerSettings());
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        scheduler.advanceTimeBy(OPEN_DURATION);
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertThrows(WebClientResponseException.class, () -> breaker.execute(okRequest).block());
+        assertEquals(0, sentRequests.get());
+    }
+
+    @Test
+    @DisplayName("test Late Responses To Requests Sent Before Opening Do Not Close The Circuit Breaker")
+    void lateResponsesDoNotClose() {
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", circuitBreakerSettings());
+        Sinks.One<String> lateSuccess = Sinks.one();
+        Sinks.One<String> lateClientError = Sinks.one();
+        breaker.execute(lateSuccess.asMono()).subscribe();
+        breaker.execute(lateClientError.asMono()).onErrorResume(throwable -> Mono.empty()).subscribe();
+
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+        assertEquals(State.OPEN, breaker.getState());
+
+        lateSuccess.tryEmitValue("OK");
+        lateClientError.tryEmitError(
+                new WebClientResponseException(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null));
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("test Only A Cancelled Trial Request Lets Another Trial Through")
+    void onlyCancelledTrialLetsAnotherTrialThrough() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", circuitBreakerSettings());
+        Disposable sentBeforeOpening = breaker.execute(Mono.never()).subscribe();
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+        fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        scheduler.advanceTimeBy(OPEN_DURATION);
+        Disposable trial = breaker.execute(Mono.never()).subscribe();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        sentBeforeOpening.dispose();
+        assertThrows(WebClientResponseException.class, () -> breaker.execute(okRequest).block());
+        assertEquals(0, sentRequests.get());
+
+        trial.dispose();
+        assertEquals("OK", breaker.execute(okRequest).block());
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("test Metrics Are Only Registered When The Circuit Breaker Or Timeouts Are Enabled")
+    void metricsAreOnlyRegisteredWhenEnabled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            RicState.get("ric1", new RicSettings());
+            assertNull(registry.find(RicCircuitBreaker.STATE_METRIC).tag("ric", "ric1").gauge());
+
+            RicCircuitBreaker breaker = RicState.get("ric2", circuitBreakerSettings()).getCircuitBreaker();
+            fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+            fail(breaker, HttpStatus.INTERNAL_SERVER_ERROR);
+            assertEquals(State.OPEN.ordinal(),
+                    registry.get(RicCircuitBreaker.STATE_METRIC).tag("ric", "ric2").gauge().value());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    @DisplayName("test Metrics Are Removed With The Ric")
+    void metricsAreRemovedWithTheRic() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            RicState.get("ric1", circuitBreakerSettings());
+            assertEquals(State.CLOSED.ordinal(),
+                    registry.get(RicCircuitBreaker.STATE_METRIC).tag("ric", "ric1").gauge().value());
+
+            RicState.remove("ric1");
+
+            assertNull(registry.find(RicCircuitBreaker.STATE_METRIC).tag("ric", "ric1").gauge());
+            assertNull(registry.find(RicCircuitBreaker.TIMEOUT_METRIC).tag("ric", "ric1").gauge());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    @DisplayName("test Client Errors Do Not Open The Circuit Breaker")
+    void clientErrorsDoNotOpen() {
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", circuitBreakerSettings());
+
+        fail(breaker, HttpStatus.NOT_FOUND);
+        fail(breaker, HttpStatus.NOT_FOUND);
+        fail(breaker, HttpStatus.NOT_FOUND);
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("test Request Times Out")
+    void requestTimesOut() {
+        RicSettings settings = new RicSettings();
+        settings.setRequestTimeout(Duration.ofSeconds(1));
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", settings);
+
+        StepVerifier.withVirtualTime(() -> breaker.execute(Mono.never())) //
+                .expectSubscription() //
+                .expectNoEvent(Duration.ofMillis(999)) //
+                .expectErrorMatches(throwable -> throwable instanceof WebClientResponseException e
+                        && e.getStatusCode().value() == HttpStatus.GATEWAY_TIMEOUT.value()) //
+                .verify();
+    }
+
+    @Test
+    @DisplayName("test Adaptive Timeout Follows The Latency")
+    void adaptiveTimeoutFollowsTheLatency() {
+        RicSettings settings = new RicSettings();
+        settings.setAdaptiveTimeout(true);
+        settings.setAdaptiveTimeoutMin(Duration.ofMillis(100));
+        settings.setRequestTimeout(Duration.ofSeconds(5));
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", settings);
+        assertEquals(5000, breaker.getTimeoutMillis());
+
+        StepVerifier.withVirtualTime(() -> Flux.range(0, 10) //
+                .concatMap(i -> breaker.execute(Mono.delay(Duration.ofMillis(50))))) //
+                .thenAwait(Duration.ofSeconds(1)) //
+                .expectNextCount(10) //
+                .verifyComplete();
+
+        assertEquals(150, breaker.getTimeoutMillis());
+    }
+
+    @Test
+    @DisplayName("test Adaptive Timeout Grows When The Ric Gets Slower")
+    void adaptiveTimeoutGrowsWhenRicGetsSlower() {
+        RicSettings settings = new RicSettings();
+        settings.setAdaptiveTimeout(true);
+        settings.setAdaptiveTimeoutMin(Duration.ofMillis(100));
+        settings.setRequestTimeout(Duration.ofSeconds(5));
+        RicCircuitBreaker breaker = new RicCircuitBreaker("ric", settings);
+
+        Flux<String> fastRequests = Flux.range(0, 10) //
+                .concatMap(i -> breaker.execute(Mono.delay(Duration.ofMillis(50))).thenReturn("OK"));
+        Flux<String> slowRequests = Flux.range(0, 30) //
+                .concatMap(i -> breaker.execute(Mono.delay(Duration.ofMillis(500))).thenReturn("OK") //
+                        .onErrorReturn(WebClientResponseException.class, "TIMEOUT"));
+
+        StepVerifier.withVirtualTime(() -> fastRequests.thenMany(slowRequests).collectList()) //
+                .thenAwait(Duration.ofMinutes(1)) //
+                .assertNext(results -> {
+                    assertEquals("TIMEOUT", results.get(0));
+                    assertEquals("OK", results.get(results.size() - 1));
+                }) //
+                .verifyComplete();
+        assertTrue(breaker.getTimeoutMillis() >= 500);
+    }
+
+    private static RicSettings circuitBreakerSettings() {
+        RicSettings settings = new RicSettings();
+        settings.setCircuitBreaker(true);
+        settings.setCircuitBreakerFailureThreshold(2);
+        settings.setCircuitBreakerOpenDuration(OPEN_DURATION);
+        return settings;
+    }
+
+    private static void fail(RicCircuitBreaker breaker, HttpStatus status) {
+        breaker.execute(Mono.error(new WebClientResponseException(status.value(), status.getReasonPhrase(), null,
+                null, null))).onErrorResume(throwable -> Mono.empty()).block();
+    }
+}
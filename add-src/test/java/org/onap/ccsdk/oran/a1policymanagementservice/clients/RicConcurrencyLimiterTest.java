@@ -0,0 +1,139 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class RicConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("test Requests Exceeding The Limit Are Queued")
+    void requestsExceedingTheLimitAreQueued() {
+        RicConcurrencyLimiter limiter = new RicConcurrencyLimiter("ric", settings(2, false, 2));
+        AtomicInteger started = new AtomicInteger();
+        Mono<Integer> request = Mono.fromCallable(started::incrementAndGet).then(Mono.never());
+
+        Disposable first = limiter.execute(request).subscribe();
+        limiter.execute(request).subscribe();
+        limiter.execute(request).subscribe();
+        assertEquals(2, started.get());
+
+        first.dispose();
+        assertEquals(3, started.get());
+    }
+
+    @Test
+    @DisplayName("test Adaptive Limit Is Raised While The Ric Is Healthy")
+    void adaptiveLimitIsRaisedWhileHealthy() {
+        RicConcurrencyLimiter limiter = new RicConcurrencyLimiter("ric", settings(1, true, 4));
+
+        executeConcurrently(limiter);
+
+        assertEquals(4, limiter.getCurrentLimit());
+        assertEquals(4, limiter.getMaxLimit());
+    }
+
+    @Test
+    @DisplayName("test Adaptive Limit Is Not Raised When It Is Not Used")
+    void adaptiveLimitIsNotRaisedWhenUnused() {
+        RicConcurrencyLimiter limiter = new RicConcurrencyLimiter("ric", settings(1, true, 4));
+
+        // One request at a time uses a limit of 1, but not a limit of 2
+        Flux.range(0, 20).concatMap(i -> limiter.execute(Mono.just(i))).blockLast();
+
+        assertEquals(2, limiter.getCurrentLimit());
+    }
+
+    @Test
+    @DisplayName("test Adaptive Limit Is Reduced On Errors")
+    void adaptiveLimitIsReducedOnErrors() {
+        RicConcurrencyLimiter limiter = new RicConcurrencyLimiter("ric", settings(1, true, 4));
+        executeConcurrently(limiter);
+        assertEquals(4, limiter.getCurrentLimit());
+
+        limiter.execute(Mono.error(new RuntimeException("error"))).onErrorResume(t -> Mono.empty()).block();
+        assertEquals(2, limiter.getCurrentLimit());
+
+        limiter.execute(Mono.error(new RuntimeException("error"))).onErrorResume(t -> Mono.empty()).block();
+        limiter.execute(Mono.error(new RuntimeException("error"))).onErrorResume(t -> Mono.empty()).block();
+        assertEquals(1, limiter.getCurrentLimit());
+    }
+
+    @Test
+    @DisplayName("test Adaptive Limit Is Reduced On Slow Responses")
+    void adaptiveLimitIsReducedOnSlowResponses() {
+        RicSettings settings = settings(1, true, 4);
+        settings.setLatencyTarget(Duration.ofMillis(50));
+        RicConcurrencyLimiter limiter = new RicConcurrencyLimiter("ric", settings);
+        executeConcurrently(limiter);
+        assertEquals(4, limiter.getCurrentLimit());
+
+        limiter.execute(Mono.delay(Duration.ofMillis(100))).block();
+
+        assertEquals(3, limiter.getCurrentLimit());
+    }
+
+    @Test
+    @DisplayName("test Changed Settings Keep The Ongoing And Waiting Requests")
+    void updateKeepsOngoingRequests() {
+        RicConcurrencyLimiter limiter = new RicConcurrencyLimiter("ric", settings(1, false, 1));
+        AtomicInteger started = new AtomicInteger();
+        Mono<Integer> request = Mono.fromCallable(started::incrementAndGet).then(Mono.never());
+        Disposable first = limiter.execute(request).subscribe();
+        limiter.execute(request).subscribe();
+        limiter.execute(request).subscribe();
+        assertEquals(1, started.get());
+
+        limiter.update(settings(2, false, 2));
+        assertEquals(2, started.get());
+        assertEquals(2, limiter.getMaxLimit());
+
+        limiter.update(settings(1, false, 1));
+        first.dispose();
+        // Still one ongoing request, which uses the new limit
+        assertEquals(2, started.get());
+        assertEquals(1, limiter.getCurrentLimit());
+    }
+
+    // Keeps more requests waiting than the limit allows, so the limit is used all the time
+    private static void executeConcurrently(RicConcurrencyLimiter limiter) {
+        Flux.range(0, 40).flatMap(i -> limiter.execute(Mono.delay(Duration.ofMillis(1)))).blockLast();
+    }
+
+    private static RicSettings settings(int concurrency, boolean adaptive, int maxConcurrency) {
+        RicSettings settings = new RicSettings();
+        settings.setConcurrency(concurrency);
+        settings.setAdaptiveConcurrency(adaptive);
+        settings.setMaxConcurrency(maxConcurrency);
+        return settings;
+    }
+}
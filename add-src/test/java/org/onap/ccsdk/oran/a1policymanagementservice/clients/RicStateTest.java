@@ -0,0 +1,110 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RicCircuitBreaker.State;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+class RicStateTest {
+
+    @AfterEach
+    void reset() {
+        RicState.clear();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    @DisplayName("test Changed Settings Keep The State Of The Ric")
+    void changedSettingsKeepState() {
+        RicSettings settings = settings(1);
+        RicState state = RicState.get("ric", settings);
+        AtomicInteger started = new AtomicInteger();
+        Mono<Integer> request = Mono.fromCallable(started::incrementAndGet).then(Mono.never());
+        state.getConcurrencyLimiter().execute(request).subscribe();
+        failRequest(state.getCircuitBreaker());
+        failRequest(state.getCircuitBreaker());
+        assertEquals(State.OPEN, state.getCircuitBreaker().getState());
+
+        RicState updated = RicState.get("ric", settings(2));
+
+        assertSame(state, updated);
+        assertEquals(State.OPEN, updated.getCircuitBreaker().getState());
+        // The ongoing request still counts, so only one more request is let through
+        updated.getConcurrencyLimiter().execute(request).subscribe();
+        updated.getConcurrencyLimiter().execute(request).subscribe();
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    @DisplayName("test The State Of A Removed Ric Is Dropped")
+    void removedRicIsDropped() {
+        RicState state = RicState.get("ric", settings(1));
+
+        RicState.remove("ric");
+
+        assertNotSame(state, RicState.get("ric", settings(1)));
+    }
+
+    @Test
+    @DisplayName("test The State Of An Idle Ric Is Dropped")
+    void idleRicIsDropped() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        RicState.clear();
+        RicState idle = RicState.get("ric1", settings(1));
+        RicState used = RicState.get("ric2", settings(1));
+
+        scheduler.advanceTimeBy(Duration.ofMinutes(50));
+        assertSame(used, RicState.get("ric2", settings(1)));
+        scheduler.advanceTimeBy(Duration.ofMinutes(20));
+
+        assertSame(used, RicState.get("ric2", settings(1)));
+        assertNotSame(idle, RicState.get("ric1", settings(1)));
+    }
+
+    private static RicSettings settings(int concurrency) {
+        RicSettings settings = new RicSettings();
+        settings.setConcurrency(concurrency);
+        settings.setCircuitBreaker(true);
+        settings.setCircuitBreakerFailureThreshold(2);
+        return settings;
+    }
+
+    private static void failRequest(RicCircuitBreaker breaker) {
+        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+        breaker.execute(Mono.error(new WebClientResponseException(status.value(), status.getReasonPhrase(), null,
+                null, null))).onErrorResume(throwable -> Mono.empty()).block();
+    }
+}
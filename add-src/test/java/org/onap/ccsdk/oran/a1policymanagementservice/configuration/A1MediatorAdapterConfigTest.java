@@ -0,0 +1,73 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.ControllerSettings;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.A1MediatorAdapterConfig.RicSettings;
+
+class A1MediatorAdapterConfigTest {
+
+    @Test
+    @DisplayName("test that a RIC override keeps the settings it does not give from ric-defaults")
+    void ricOverrideIsMergedWithDefaults() {
+        A1MediatorAdapterConfig config = new A1MediatorAdapterConfig();
+        config.getRicDefaults().setCircuitBreaker(true);
+        config.getRicDefaults().setStatusCacheTtl(Duration.ofMinutes(1));
+        config.getRicDefaults().setConcurrency(2);
+        config.setRics(Map.of("ric1", Map.of("concurrency", "8", "schema-cache-ttl", "10m")));
+
+        RicSettings settings = config.getRicSettings("ric1");
+        assertEquals(8, settings.getConcurrency());
+        assertEquals(Duration.ofMinutes(10), settings.getSchemaCacheTtl());
+        assertTrue(settings.isCircuitBreaker());
+        assertEquals(Duration.ofMinutes(1), settings.getStatusCacheTtl());
+
+        // The defaults are not changed by the override
+        assertEquals(2, config.getRicDefaults().getConcurrency());
+        assertSame(config.getRicDefaults(), config.getRicSettings("ric2"));
+    }
+
+    @Test
+    @DisplayName("test that a controller override keeps the settings it does not give from controller-defaults")
+    void controllerOverrideIsMergedWithDefaults() {
+        A1MediatorAdapterConfig config = new A1MediatorAdapterConfig();
+        config.getControllerDefaults().setBatchMaxSize(20);
+        config.getControllerDefaults().setSharedRestClient(false);
+        config.setControllers(Map.of("controller1", Map.of("batchEnabled", "true")));
+
+        ControllerSettings settings = config.getControllerSettings("controller1");
+        assertTrue(settings.isBatchEnabled());
+        assertEquals(20, settings.getBatchMaxSize());
+        assertFalse(settings.isSharedRestClient());
+        assertEquals(Duration.ofMillis(10), settings.getBatchWindow());
+    }
+}
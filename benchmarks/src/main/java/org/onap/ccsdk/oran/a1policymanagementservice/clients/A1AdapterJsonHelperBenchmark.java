@@ -0,0 +1,81 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and parsing in A1AdapterJsonHelper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class A1AdapterJsonHelperBenchmark {
+
+    // Number of identities in a listing of policy types or policies
+    @Param({"10", "1000"})
+    int noOfIdentities;
+
+    String identities;
+    String output;
+    AdapterRequest request;
+
+    @Setup
+    public void setup() {
+        identities = BenchmarkData.identities(noOfIdentities);
+        output = A1AdapterJsonHelper.createOutputJsonString(new AdapterOutput(200, identities));
+        request = new AdapterRequest(BenchmarkData.RIC_URL + "/A1-P/v2/policytypes/type1/policies/policy1",
+                BenchmarkData.POLICY_JSON);
+    }
+
+    @Benchmark
+    public String createInputJsonString() {
+        return A1AdapterJsonHelper.createInputJsonString(request);
+    }
+
+    @Benchmark
+    public Object getOutput() {
+        return A1AdapterJsonHelper.getOutput(output).block();
+    }
+
+    @Benchmark
+    public List<String> parseJsonArrayOfString() {
+        return A1AdapterJsonHelper.parseJsonArrayOfString(identities).collectList().block();
+    }
+}
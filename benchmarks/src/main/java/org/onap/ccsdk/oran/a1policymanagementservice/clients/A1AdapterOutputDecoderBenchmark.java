@@ -0,0 +1,75 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of the output of an A1 controller RPC. Compares the single pass decoder with parsing into a JSONObject
+ * followed by Gson decoding of the JSONObject re-encoded as a String. Run with '-prof gc' to see the allocation
+ * rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class A1AdapterOutputDecoderBenchmark {
+
+    // Number of properties in the policy type schema returned in the body
+    @Param({"1", "100"})
+    int schemaProperties;
+
+    String response;
+
+    @Setup
+    public void setup() {
+        String body = BenchmarkData.policyType(schemaProperties);
+        response = A1AdapterJsonHelper.createOutputJsonString(new AdapterOutput(200, body));
+    }
+
+    @Benchmark
+    public AdapterOutput jsonObjectAndGson() {
+        return A1AdapterJsonHelper.getOutput(response) //
+                .map(output -> A1MediatorAdapterICCSDK.gson.fromJson(output.toString(), AdapterOutput.class)) //
+                .block();
+    }
+
+    @Benchmark
+    public AdapterOutput singlePassDecoder() throws IOException {
+        return A1AdapterOutputDecoder.decode(response);
+    }
+}
@@ -0,0 +1,101 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.concurrent.TimeUnit;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterOutput;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The client side processing of A1 requests in A1MediatorAdapterICCSDK and A1MediatorAdapterI: building of the
+ * request, encoding of the controller RPC input and decoding of the response. The requests are answered by an
+ * in-process stub.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class A1ClientRequestBenchmark {
+    private static final String GET_POLICY_RPC = "/A1-ADAPTER-API:getA1Policy";
+
+    A1MediatorAdapterICCSDK ccsdkClient;
+    A1MediatorAdapterI mediatorClient;
+    Policy policy;
+
+    @Setup
+    public void setup() {
+        String okOutput = A1AdapterJsonHelper.createOutputJsonString(new AdapterOutput(200, "OK"));
+        String schemaOutput =
+                A1AdapterJsonHelper.createOutputJsonString(new AdapterOutput(200, BenchmarkData.policyType(10)));
+        ccsdkClient = new A1MediatorAdapterICCSDK(A1ProtocolType.CUSTOM_PROTOCOL, BenchmarkData.ricConfig(),
+                new StubAsyncRestClient(uri -> GET_POLICY_RPC.equals(uri) ? schemaOutput : okOutput));
+
+        String policyType = BenchmarkData.policyType(10);
+        mediatorClient = new A1MediatorAdapterI(BenchmarkData.ricConfig(),
+                new StubAsyncRestClient(uri -> uri.endsWith(BenchmarkData.POLICY_TYPE_ID) ? policyType : "OK"));
+
+        policy = BenchmarkData.policy("policy1");
+    }
+
+    @Benchmark
+    public String ccsdkPutPolicy() {
+        return ccsdkClient.putPolicy(policy).block();
+    }
+
+    @Benchmark
+    public String ccsdkDeletePolicy() {
+        return ccsdkClient.deletePolicy(policy).block();
+    }
+
+    @Benchmark
+    public String ccsdkGetPolicyStatus() {
+        return ccsdkClient.getPolicyStatus(policy).block();
+    }
+
+    @Benchmark
+    public String ccsdkGetPolicyTypeSchema() {
+        return ccsdkClient.getPolicyTypeSchema(BenchmarkData.POLICY_TYPE_ID).block();
+    }
+
+    @Benchmark
+    public String mediatorPutPolicy() {
+        return mediatorClient.putPolicy(policy).block();
+    }
+
+    @Benchmark
+    public String mediatorGetPolicyTypeSchema() {
+        return mediatorClient.getPolicyTypeSchema(BenchmarkData.POLICY_TYPE_ID).block();
+    }
+}
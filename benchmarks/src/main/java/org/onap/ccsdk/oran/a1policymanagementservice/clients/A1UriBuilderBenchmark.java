@@ -0,0 +1,81 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.concurrent.TimeUnit;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterI.A1MediatorRelIUriBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building of the Near-RT RIC URIs in A1MediatorRelIUriBuilder (StdA1ClientVersion2.OranV2UriBuilder).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class A1UriBuilderBenchmark {
+    private static final String POLICY_ID = "policy1";
+
+    A1MediatorRelIUriBuilder uriBuilder;
+
+    @Setup
+    public void setup() {
+        uriBuilder = new A1MediatorRelIUriBuilder(BenchmarkData.ricConfig());
+    }
+
+    @Benchmark
+    public String createPutPolicyUri() {
+        return uriBuilder.createPutPolicyUri(BenchmarkData.POLICY_TYPE_ID, POLICY_ID,
+                "https://service.example.com/status");
+    }
+
+    @Benchmark
+    public String createDeleteUri() {
+        return uriBuilder.createDeleteUri(BenchmarkData.POLICY_TYPE_ID, POLICY_ID);
+    }
+
+    @Benchmark
+    public String createGetPolicyStatusUri() {
+        return uriBuilder.createGetPolicyStatusUri(BenchmarkData.POLICY_TYPE_ID, POLICY_ID);
+    }
+
+    @Benchmark
+    public String createGetSchemaUri() {
+        return uriBuilder.createGetSchemaUri(BenchmarkData.POLICY_TYPE_ID);
+    }
+
+    @Benchmark
+    public String createGetPolicyIdsUri() {
+        return uriBuilder.createGetPolicyIdsUri(BenchmarkData.POLICY_TYPE_ID);
+    }
+}
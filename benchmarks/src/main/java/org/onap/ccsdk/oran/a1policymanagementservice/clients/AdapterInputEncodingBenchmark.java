@@ -0,0 +1,72 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.concurrent.TimeUnit;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1MediatorAdapterICCSDK.AdapterRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding of the input of an A1 controller RPC with a policy body. Compares the one pass encoding in
+ * A1MediatorAdapterICCSDK with A1AdapterJsonHelper, which serializes, parses and serializes the body again. Run
+ * with '-prof gc' to see the allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdapterInputEncodingBenchmark {
+    private static final String RIC_URL = BenchmarkData.RIC_URL + "/A1-P/v2/policytypes/type1/policies/policy1";
+
+    // Size of the policy body, as number of properties
+    @Param({"1", "100"})
+    int policyProperties;
+
+    String body;
+
+    @Setup
+    public void setup() {
+        body = BenchmarkData.policyType(policyProperties);
+    }
+
+    @Benchmark
+    public String jsonHelper() {
+        return A1AdapterJsonHelper.createInputJsonString(new AdapterRequest(RIC_URL, body));
+    }
+
+    @Benchmark
+    public String onePassEncoding() {
+        return A1MediatorAdapterICCSDK.encodeInput(RIC_URL, body);
+    }
+}
@@ -0,0 +1,100 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.time.Instant;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyType;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+
+/**
+ * Test data shared by the benchmarks.
+ */
+final class BenchmarkData {
+    static final String RIC_URL = "https://ric1.example.com:8085";
+    static final String POLICY_TYPE_ID = "ORAN_QoSTarget_1.0.0";
+    static final String POLICY_JSON =
+            "{\"scope\":{\"ueId\":\"ue1\",\"qosId\":\"qos1\"},\"qosObjectives\":{\"priorityLevel\":3}}";
+
+    private BenchmarkData() {}
+
+    static RicConfig ricConfig() {
+        return RicConfig.builder() //
+                .ricId("ric1") //
+                .baseUrl(RIC_URL) //
+                .controllerConfig(ControllerConfig.builder() //
+                        .name("controller1") //
+                        .baseUrl("http://a1controller:8282") //
+                        .userName("admin") //
+                        .password("admin") //
+                        .build()) //
+                .build();
+    }
+
+    static Policy policy(String policyId) {
+        return Policy.builder() //
+                .id(policyId) //
+                .json(POLICY_JSON) //
+                .ownerServiceId("service") //
+                .ric(new Ric(ricConfig())) //
+                .type(PolicyType.builder().id(POLICY_TYPE_ID).schema("{}").build()) //
+                .lastModified(Instant.now()) //
+                .isTransient(false) //
+                .statusNotificationUri("https://service.example.com/status") //
+                .build();
+    }
+
+    /**
+     * @param noOfProperties the number of properties in the policy type schema
+     * @return a policy type as returned by a Near-RT RIC
+     */
+    static String policyType(int noOfProperties) {
+        JSONObject properties = new JSONObject();
+        for (int i = 0; i < noOfProperties; ++i) {
+            properties.put("property" + i, new JSONObject() //
+                    .put("type", "string") //
+                    .put("description", "Description of property " + i) //
+                    .put("enum", new JSONArray().put("a").put("b").put("c")));
+        }
+        return new JSONObject().put("create_schema", new JSONObject() //
+                .put("$schema", "http://json-schema.org/draft-07/schema#") //
+                .put("type", "object") //
+                .put("properties", properties)) //
+                .toString();
+    }
+
+    /**
+     * @param size the number of identities
+     * @return a JSON array of identities, as returned by a Near-RT RIC
+     */
+    static String identities(int size) {
+        JSONArray ids = new JSONArray();
+        for (int i = 0; i < size; ++i) {
+            ids.put("policy" + i);
+        }
+        return ids.toString();
+    }
+}
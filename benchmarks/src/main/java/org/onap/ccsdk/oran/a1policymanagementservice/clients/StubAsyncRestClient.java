@@ -0,0 +1,61 @@
+/*-
+ * ========================LICENSE_START=================================
+ * O-RAN-SC
+ * %%
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.function.UnaryOperator;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process AsyncRestClient that answers all requests without any network access, so that only the client side
+ * processing is measured.
+ */
+class StubAsyncRestClient extends AsyncRestClient {
+    private final UnaryOperator<String> responses;
+
+    /**
+     * @param responses gives the response body for a requested URI
+     */
+    StubAsyncRestClient(UnaryOperator<String> responses) {
+        super("", null, null, new SecurityContext(""));
+        this.responses = responses;
+    }
+
+    @Override
+    public Mono<String> get(String uri) {
+        return Mono.just(responses.apply(uri));
+    }
+
+    @Override
+    public Mono<String> put(String uri, String body) {
+        return Mono.just(responses.apply(uri));
+    }
+
+    @Override
+    public Mono<String> delete(String uri) {
+        return Mono.just(responses.apply(uri));
+    }
+
+    @Override
+    public Mono<String> postWithAuthHeader(String uri, String body, String username, String password) {
+        return Mono.just(responses.apply(uri));
+    }
+}